@@ -0,0 +1,48 @@
+package com.dwilliam.config.benchmark;
+
+import com.dwilliam.config.Config;
+import com.dwilliam.config.Configs;
+import com.dwilliam.config.IntKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ContendedBenchmark {
+
+    private Config config;
+    private IntKey intKey;
+    private String key;
+
+    @Setup
+    public void setup() {
+        Path path = Fixtures.write("contended", 1000);
+        Fixtures.useAsDefault(path);
+        this.config = Configs.init();
+        this.key = Fixtures.key(500);
+        this.intKey = this.config.intKey(this.key);
+    }
+
+    @Benchmark
+    public Integer configGetInteger() {
+        return this.config.getInteger(this.key);
+    }
+
+    @Benchmark
+    public int configsGetInteger() {
+        return Configs.getInteger(this.key);
+    }
+
+    @Benchmark
+    public int intKey() {
+        return this.intKey.getAsInt();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.dwilliam.config.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class Fixtures {
+
+    static final int GROUP = 100;
+
+    private Fixtures() {
+    }
+
+    static String key(int index) {
+        return "group" + (index / GROUP) + ".key" + (index % GROUP);
+    }
+
+    static Path write(String name, int keys) {
+        try {
+            Path path = Files.createTempDirectory("config-benchmark").resolve(name + ".conf");
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                writer.write("{\"char\": \"c\", \"string\": \"value\"");
+                for (int group = 0; group * GROUP < keys; group++) {
+                    writer.write(", \"group" + group + "\": {");
+                    for (int key = 0; key < GROUP && group * GROUP + key < keys; key++) {
+                        if (key > 0) writer.write(", ");
+                        writer.write("\"key" + key + "\": " + (group * GROUP + key));
+                    }
+                    writer.write("}");
+                }
+                writer.write("}");
+            }
+            path.toFile().deleteOnExit();
+            path.getParent().toFile().deleteOnExit();
+            return path;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void useAsDefault(Path path) {
+        System.setProperty("app-config-path", path.toString());
+        System.setProperty("app-config-log", "false");
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.dwilliam.config.benchmark;
+
+import com.dwilliam.config.Config;
+import com.dwilliam.config.ConfigType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int keys;
+
+    @Param({"false", "true"})
+    public boolean log;
+
+    private Path path;
+    private PrintStream out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.path = Fixtures.write("load", this.keys);
+        Fixtures.useAsDefault(this.path);
+        this.out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(this.out);
+    }
+
+    @Benchmark
+    public Config load() {
+        return new Config(this.path, ConfigType.JSON, this.log);
+    }
+
+}
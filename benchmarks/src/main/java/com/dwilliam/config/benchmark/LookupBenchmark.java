@@ -0,0 +1,74 @@
+package com.dwilliam.config.benchmark;
+
+import com.dwilliam.config.Config;
+import com.dwilliam.config.Configs;
+import com.dwilliam.config.IntKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    private Config config;
+    private IntKey intKey;
+    private String key;
+    private String computedKey;
+
+    @Setup
+    public void setup() {
+        Path path = Fixtures.write("lookup", 1000);
+        Fixtures.useAsDefault(path);
+        this.config = Configs.init();
+        this.key = Fixtures.key(500).intern();
+        this.computedKey = Fixtures.key(500);
+        this.intKey = this.config.intKey(this.key);
+    }
+
+    @Benchmark
+    public Object configGet() {
+        return this.config.get(this.key);
+    }
+
+    @Benchmark
+    public Object configGetComputed() {
+        return this.config.get(this.computedKey);
+    }
+
+    @Benchmark
+    public Integer configGetInteger() {
+        return this.config.getInteger(this.key);
+    }
+
+    @Benchmark
+    public Character configGetCharacter() {
+        return this.config.getCharacter("char");
+    }
+
+    @Benchmark
+    public int intKey() {
+        return this.intKey.getAsInt();
+    }
+
+    @Benchmark
+    public Object configsGet() {
+        return Configs.get(this.key);
+    }
+
+    @Benchmark
+    public int configsGetInteger() {
+        return Configs.getInteger(this.key);
+    }
+
+    @Benchmark
+    public char configsGetCharacter() {
+        return Configs.getCharacter("char");
+    }
+
+}
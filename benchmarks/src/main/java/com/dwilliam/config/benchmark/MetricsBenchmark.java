@@ -0,0 +1,7 @@
+package com.dwilliam.config.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(value = 1, jvmArgsAppend = "-Dapp-config-metrics=true")
+public class MetricsBenchmark extends ContendedBenchmark {
+}
@@ -0,0 +1,60 @@
+package com.dwilliam.config.benchmark;
+
+import com.dwilliam.config.Config;
+import com.dwilliam.config.Configs;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrElseBenchmark {
+
+    private static final String MISSING = "missing.feature.flag";
+
+    private Config config;
+
+    @Setup
+    public void setup() {
+        Path path = Fixtures.write("orelse", 1000);
+        Fixtures.useAsDefault(path);
+        this.config = Configs.init();
+    }
+
+    @Benchmark
+    public Integer configGetIntegerOrElse() {
+        return this.config.getIntegerOrElse(MISSING, 42);
+    }
+
+    @Benchmark
+    public String configGetStringOrElse() {
+        return this.config.getStringOrElse(MISSING, "fallback");
+    }
+
+    @Benchmark
+    public BigDecimal configGetBigDecimalOrElse() {
+        return this.config.getBigDecimalOrElse(MISSING, BigDecimal.ONE);
+    }
+
+    @Benchmark
+    public int configsGetIntegerOrElse() {
+        return Configs.getIntegerOrElse(MISSING, 42);
+    }
+
+    @Benchmark
+    public long configsGetLongOrElse() {
+        return Configs.getLongOrElse(MISSING, 42L);
+    }
+
+    @Benchmark
+    public TimeUnit configsGetEnumValueOrElse() {
+        return Configs.getEnumValue(MISSING, TimeUnit.SECONDS, TimeUnit.class);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.dwilliam.config.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class RegressionCheck {
+
+    private RegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: RegressionCheck <baseline.json> <result.json> [threshold %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> results = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode result = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            double score = score(result);
+            if (previous == null) {
+                System.out.printf("[NEW]  %s : %.3f%n", entry.getKey(), score);
+                continue;
+            }
+            if (!sameJvm(previous, result)) {
+                System.out.printf("[SKIP] %s : baseline ran on %s, result on %s%n", entry.getKey(), jvm(previous), jvm(result));
+                continue;
+            }
+            double reference = score(previous);
+            boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+            double change = (higherIsBetter ? reference - score : score - reference) / reference * 100;
+            double best = higherIsBetter ? score + error(result) : score - error(result);
+            double worst = higherIsBetter ? reference - error(previous) : reference + error(previous);
+            boolean significant = higherIsBetter ? best < worst : best > worst;
+            boolean regressed = change > threshold && significant;
+            if (regressed) regressions++;
+            String status = regressed ? "FAIL" : change > threshold ? "NOISE" : " OK ";
+            System.out.printf("[%s] %s : %.3f +/- %.3f -> %.3f +/- %.3f (%+.1f%%)%n", status, entry.getKey(),
+                              reference, error(previous), score, error(result), 0 - change);
+        }
+        if (regressions > 0) {
+            System.err.println(regressions + " benchmark(s) regressed more than " + threshold + "% beyond their error margins");
+            System.exit(1);
+        }
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static boolean sameJvm(JsonNode baseline, JsonNode result) {
+        return jvm(baseline).equals(jvm(result));
+    }
+
+    private static String jvm(JsonNode result) {
+        return result.path("vmName").asText() + " " + result.path("vmVersion").asText();
+    }
+
+    private static Map<String, JsonNode> read(Path path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(path.toFile())) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            key.append(" threads=").append(result.path("threads").asInt(1));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.dwilliam.config;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+final class AsyncReporter implements ConfigReporter {
+
+    private final ConfigReporter reporter;
+    private final ExecutorService executor;
+
+    AsyncReporter(ConfigReporter reporter) {
+        this.reporter = reporter;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "config-reporter-flush"));
+    }
+
+    @Override
+    public void report(ConfigReport report) {
+        this.executor.execute(() -> this.reporter.report(report));
+    }
+
+    @Override
+    public void error(Path path, String message, RuntimeException error) {
+        this.executor.execute(() -> this.reporter.error(path, message, error));
+    }
+
+    private void flush() {
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.NoSuchConfigValueException;
+
+import java.util.function.BooleanSupplier;
+
+public final class BooleanKey extends ConfigHandle<BooleanKey.Bound> implements BooleanSupplier {
+
+    static final class Bound extends ConfigHandle.Binding {
+
+        final boolean value;
+
+        Bound(ConfigValues values, int slot, boolean present, boolean value) {
+            super(values, slot, present);
+            this.value = value;
+        }
+
+    }
+
+    BooleanKey(Config config, String tree) {
+        super(config, tree);
+        resolve();
+    }
+
+    @Override
+    Bound bind(ConfigValues values) {
+        int slot = values.slot(this.tree);
+        if (values.isNull(slot)) return new Bound(values, slot, false, false);
+        return new Bound(values, slot, true, values.booleanValue(slot));
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        Bound binding = binding();
+        if (!binding.present) throw new NoSuchConfigValueException(this.tree);
+        return binding.value;
+    }
+
+    public boolean getAsBoolean(boolean elseValue) {
+        Bound binding = binding();
+        return binding.present ? binding.value : elseValue;
+    }
+
+}
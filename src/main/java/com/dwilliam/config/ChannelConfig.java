@@ -0,0 +1,108 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileException;
+import com.dwilliam.config.exception.NoSuchConfigFileException;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+final class ChannelConfig extends Config {
+
+    private static final int RETRIES = 8;
+
+    private final Path path;
+    private final ByteBuffer control;
+    private volatile long sequence;
+    private Thread poller;
+
+    private ChannelConfig(Path path, ByteBuffer control, long sequence, ConfigSnapshot snapshot) {
+        super(snapshot);
+        this.path = path;
+        this.control = control;
+        this.sequence = sequence;
+    }
+
+    static ChannelConfig open(Path path, ByteBuffer control) {
+        for (int attempt = 0; ; attempt++) {
+            long sequence = ConfigChannel.sequence(control);
+            if (sequence == 0) throw new ConfigFileException(path, "Nothing published on config channel");
+            try {
+                return new ChannelConfig(path, control, sequence, ConfigChannel.load(path, sequence));
+            }
+            catch (NoSuchConfigFileException e) {
+                if (attempt == RETRIES) throw e;
+            }
+        }
+    }
+
+    @Override
+    ConfigSnapshot read() {
+        for (int attempt = 0; ; attempt++) {
+            long sequence = ConfigChannel.sequence(this.control);
+            try {
+                ConfigSnapshot snapshot = ConfigChannel.load(this.path, sequence);
+                this.sequence = sequence;
+                return snapshot;
+            }
+            catch (NoSuchConfigFileException e) {
+                if (attempt == RETRIES) throw e;
+            }
+        }
+    }
+
+    @Override
+    public Path path() {
+        return this.path;
+    }
+
+    @Override
+    public ConfigType type() {
+        return ConfigType.SNAPSHOT;
+    }
+
+    @Override
+    public synchronized Config watch(Duration interval) {
+        Objects.requireNonNull(interval, "interval is null");
+        if (this.poller == null) {
+            long millis = Math.max(1, interval.toMillis());
+            this.poller = new Thread(() -> poll(millis), "config-channel-" + this.path.getFileName());
+            this.poller.setDaemon(true);
+            this.poller.start();
+        }
+        return this;
+    }
+
+    private void poll(long interval) {
+        try {
+            while (true) {
+                Thread.sleep(interval);
+                if (ConfigChannel.sequence(this.control) == this.sequence) continue;
+                try {
+                    reload();
+                }
+                catch (RuntimeException e) {
+                    Configs.reporter().error(this.path, "channel reload failed, keeping previous values", e);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void unwatch() {
+        if (this.poller != null) {
+            this.poller.interrupt();
+            this.poller = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isWatching() {
+        return this.poller != null;
+    }
+
+}
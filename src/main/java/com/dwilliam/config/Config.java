@@ -1,41 +1,50 @@
 package com.dwilliam.config;
 
-import com.dwilliam.config.exception.*;
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-
 import java.io.File;
-import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.nio.charset.CharacterCodingException;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-
-public class Config {
-
-    private final Map<String, Object> config = new HashMap<>();
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+public class Config extends ConfigView {
+
+    static final int DEFAULT_HISTORY_SIZE = 4;
+
+    private final Path path;
+    private final ConfigType type;
+    private final boolean log;
+    private final boolean lazy;
+    private final ConfigSchema schema;
+    private final ConfigListeners listeners = new ConfigListeners();
+    private final List<Runnable> dependents = new CopyOnWriteArrayList<>();
+    private final Map<String, WeakReference<Config>> subtrees = new HashMap<>();
+    private final Object reloads = new Object();
+    private final ArrayDeque<ConfigVersion> history = new ArrayDeque<>();
+    private int historySize = DEFAULT_HISTORY_SIZE;
+    private long versions;
+    private volatile ConfigVersion version;
+    private ConfigWatcher watcher;
 
     public Config() {
-        this(Configs.defaultConfigFile(), Configs.defaultConfigType(), Configs.defaultConfigLog());
+        this(Configs.defaultConfigFile(), Configs.defaultConfigLog());
     }
 
     public Config(String path) {
-        this(path, Configs.defaultConfigType(), Configs.defaultConfigLog());
+        this(path, Configs.defaultConfigType(path), Configs.defaultConfigLog());
     }
 
     public Config(File file) {
-        this(file, Configs.defaultConfigType(), Configs.defaultConfigLog());
+        this(file, Configs.defaultConfigType(file), Configs.defaultConfigLog());
     }
 
     public Config(Path path) {
-        this(path, Configs.defaultConfigType(), Configs.defaultConfigLog());
+        this(path, Configs.defaultConfigType(path), Configs.defaultConfigLog());
     }
 
     public Config(ConfigType type) {
@@ -43,7 +52,7 @@ public class Config {
     }
 
     public Config(boolean log) {
-        this(Configs.defaultConfigFile(), Configs.defaultConfigType(), log);
+        this(Configs.defaultConfigFile(), log);
     }
 
     public Config(String path, ConfigType type) {
@@ -59,15 +68,15 @@ public class Config {
     }
 
     public Config(String path, boolean log) {
-        this(path, Configs.defaultConfigType(), log);
+        this(path, Configs.defaultConfigType(path), log);
     }
 
     public Config(File file, boolean log) {
-        this(file, Configs.defaultConfigType(), log);
+        this(file, Configs.defaultConfigType(file), log);
     }
 
     public Config(Path path, boolean log) {
-        this(path, Configs.defaultConfigType(), log);
+        this(path, Configs.defaultConfigType(path), log);
     }
 
     public Config(ConfigType type, boolean log) {
@@ -83,209 +92,240 @@ public class Config {
     }
 
     public Config(Path path, ConfigType type, boolean log) {
+        this(path, type, log, true, false, null);
+    }
+
+    public Config(Path path, ConfigType type, boolean log, ConfigSchema schema) {
+        this(path, type, log, true, false, Objects.requireNonNull(schema, "schema is null"));
+    }
+
+    Config(Path path, ConfigType type, boolean log, boolean register, boolean lazy, ConfigSchema schema) {
         Objects.requireNonNull(path, "path is null");
-        Objects.requireNonNull(path, "config type is null");
+        Objects.requireNonNull(type, "config type is null");
 
-        String configString;
-        try {
-            configString = Files.readString(path);
-        }
-        catch (NoSuchFileException e) {
-            throw new NoSuchConfigFileException(path);
-        }
-        catch (CharacterCodingException e) {
-            throw new ConfigFileEncodingException(path);
-        }
-        catch (IOException e) {
-            throw new ConfigFileException(path, e.getMessage());
-        }
-        catch (OutOfMemoryError e) {
-            throw new ConfigFileTooLargeException(path);
-        }
+        this.path = path;
+        this.type = type;
+        this.log = log;
+        this.lazy = lazy;
+        this.schema = schema;
+        this.metrics = new ConfigMetrics(this);
+        this.snapshot = publish(attach(read()));
 
-        String name = path.toString();
-        Configs.CONFIGS.put(name.substring(0, name.lastIndexOf('.')), this);
-
-        switch (type) {
-            case JSON:
-                HashMap<String, Object> json;
-                try { json = Configs.MAPPER.readValue(configString, Configs.TYPE_REFERENCE); }
-                catch (JsonParseException e) { throw new ConfigFileJsonParseException(path, "Not a json"); }
-                catch (JsonMappingException e) { throw new ConfigFileJsonParseException(path, "Not an json object"); }
-                catch (IOException e) { throw new ConfigFileJsonParseException(path, e.getMessage()); }
-                initJson(null, json, log);
-            break;
-            case XML:
-                break;
-            case YAML:
-                break;
-        }
+        if (register) Configs.register(Configs.configName(path.toString()), this);
     }
 
-    private void initJson(String tree, Map<String, Object> json, boolean log) {
-        tree = tree == null ? "" : tree + ".";
-        for (Map.Entry<String, Object> entry : json.entrySet()) {
-            Object value = entry.getValue();
-            String subTree = tree + entry.getKey();
-            if (value instanceof Map) {
-                initJson(subTree, (Map<String, Object>) value, log);
-            }
-            else {
-                this.config.put(subTree, value);
-                if (log) System.out.println("[CONFIG] : " + subTree + " = " + value);
-            }
-        }
+    Config(ConfigSnapshot snapshot) {
+        this.path = null;
+        this.type = null;
+        this.log = false;
+        this.lazy = false;
+        this.schema = null;
+        this.metrics = new ConfigMetrics(this);
+        this.snapshot = publish(attach(snapshot));
     }
 
-    public int size() {
-        return this.config.size();
+    ConfigSnapshot current() {
+        return this.snapshot;
     }
 
-    public boolean isEmpty() {
-        return this.config.isEmpty();
+    ConfigValues values() {
+        return this.snapshot.values;
     }
 
-    public boolean containsKey(String tree) {
-        return this.config.containsKey(tree);
+    ConfigSnapshot read() {
+        long start = System.nanoTime();
+        ConfigSnapshot snapshot = ConfigLoader.load(this.path, this.type, this.lazy, this.schema);
+        long duration = System.nanoTime() - start;
+        if (Configs.METRICS) this.metrics.load(duration, snapshot.flattenNanos);
+        if (this.log) Configs.reporter().report(new ConfigReport(this.path, this.type, snapshot.values, duration));
+        return snapshot;
     }
 
-    public boolean containsValue(Object object) {
-        return this.config.containsValue(object);
+    private ConfigSnapshot attach(ConfigSnapshot snapshot) {
+        if (Configs.METRICS) snapshot.values.metrics = this.metrics;
+        return snapshot;
     }
 
-    public <T> T get(String tree) {
-        return (T) this.config.get(tree);
+    private ConfigSnapshot publish(ConfigSnapshot snapshot) {
+        return publish(snapshot, 0);
     }
 
-    public <T> T getOrElse(String tree, T elseValue) {
-        T value = get(tree);
-        return value == null ? elseValue : value;
+    private ConfigSnapshot publish(ConfigSnapshot snapshot, long base) {
+        synchronized (this.listeners) {
+            long number = ++this.versions;
+            ConfigVersion version = new ConfigVersion(this, snapshot, number, base == 0 ? number : base);
+            this.history.addFirst(version);
+            while (this.history.size() > this.historySize) this.history.removeLast();
+            this.version = version;
+            return snapshot;
+        }
     }
 
-    public Number getNumber(String tree) {
-        return get(tree);
+    void addDependent(Runnable dependent) {
+        this.dependents.add(dependent);
     }
 
-    public Number getNumberOrElse(String tree, Number elseValue) {
-        return getOrElse(tree, elseValue);
+    void removeDependent(Runnable dependent) {
+        this.dependents.remove(dependent);
     }
 
-    public String getString(String tree) {
-        return get(tree);
+    public Path path() {
+        return this.path;
     }
 
-    public String getStringOrElse(String tree, String elseValue) {
-        return getOrElse(tree, elseValue);
+    public ConfigType type() {
+        return this.type;
     }
 
-    public Boolean getBoolean(String tree) {
-        return get(tree);
+    public ConfigSchema schema() {
+        return this.schema;
     }
 
-    public Boolean getBooleanOrElse(String tree, Boolean elseValue) {
-        return getOrElse(tree, elseValue);
+    public void reload() {
+        synchronized (this.reloads) {
+            swap(attach(read()), 0);
+        }
     }
 
-    public Character getCharacter(String tree) {
-        String value;
-        try { value = get(tree); }
-        catch (Exception e) { throw new ClassCastException("Cannot cast " + tree + " value to Character"); }
-        if (value.length() != 1) throw new ClassCastException("Cannot cast string of length != 1 to Character");
-        return value.charAt(0);
+    private ConfigVersion swap(ConfigSnapshot snapshot, long base) {
+        ConfigVersion version;
+        synchronized (this.listeners) {
+            ConfigSnapshot previous = this.snapshot;
+            this.snapshot = publish(snapshot, base);
+            version = this.version;
+            if (!this.listeners.isEmpty()) this.listeners.dispatch(ConfigDiff.diff(this, previous, snapshot));
+        }
+        for (Runnable dependent : this.dependents) dependent.run();
+        return version;
     }
 
-    public Character getCharacterOrElse(String tree, Character elseValue) {
-        return getOrElse(tree, elseValue);
+    public ConfigVersion snapshot() {
+        return this.version;
     }
 
-    public Integer getInteger(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.intValue();
+    @Override
+    public long version() {
+        return this.version.version();
     }
 
-    public Integer getIntegerOrElse(String tree, Integer elseValue) {
-        return getNumberOrElse(tree, elseValue).intValue();
+    public List<ConfigVersion> history() {
+        synchronized (this.listeners) {
+            return List.copyOf(this.history);
+        }
     }
 
-    public Long getLong(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.longValue();
+    public ConfigVersion rollback() {
+        synchronized (this.reloads) {
+            ConfigVersion target = null;
+            synchronized (this.listeners) {
+                long base = this.version.base();
+                for (ConfigVersion retained : this.history) {
+                    if (retained.base() < base && (target == null || retained.base() > target.base())) target = retained;
+                }
+                if (target == null) throw new IllegalStateException("No previous config version retained");
+            }
+            return swap(target.snapshot, target.base());
+        }
     }
 
-    public Long getLongOrElse(String tree, Long elseValue) {
-        return getNumberOrElse(tree, elseValue).longValue();
+    public ConfigVersion rollback(long version) {
+        synchronized (this.reloads) {
+            ConfigVersion target = null;
+            synchronized (this.listeners) {
+                for (ConfigVersion retained : this.history) {
+                    if (retained.version() == version) target = retained;
+                }
+                if (target == null) throw new IllegalArgumentException("Config version " + version + " is not retained");
+            }
+            return swap(target.snapshot, target.base());
+        }
     }
 
-    public Float getFloat(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.floatValue();
+    public void setHistorySize(int size) {
+        if (size < 1) throw new IllegalArgumentException("history size must be at least 1");
+        synchronized (this.listeners) {
+            this.historySize = size;
+            while (this.history.size() > size) this.history.removeLast();
+        }
     }
 
-    public Float getFloatOrElse(String tree, Float elseValue) {
-        return getNumberOrElse(tree, elseValue).floatValue();
+    public Config subtree(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+        if (prefix.isEmpty()) return this;
+        synchronized (this.subtrees) {
+            WeakReference<Config> reference = this.subtrees.get(prefix);
+            Config subtree = reference == null ? null : reference.get();
+            if (subtree == null) {
+                subtree = new SubConfig(this, prefix);
+                this.subtrees.put(prefix, new WeakReference<>(subtree));
+            }
+            return subtree;
+        }
     }
 
-    public Double getDouble(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.doubleValue();
+    public ConfigMetrics metrics() {
+        return this.metrics;
     }
 
-    public Double getDoubleOrElse(String tree, Double elseValue) {
-        return getNumberOrElse(tree, elseValue).doubleValue();
+    public static Config openSnapshot(Path path) {
+        return new Config(path, ConfigType.SNAPSHOT, false);
     }
 
-    public Byte getByte(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.byteValue();
+    public static Config openLazy(Path path) {
+        return new Config(path, ConfigType.JSON, false, true, true, null);
     }
 
-    public Byte getByteOrElse(String tree, Byte elseValue) {
-        return getNumberOrElse(tree, elseValue).byteValue();
+    public void addListener(String tree, ConfigChangeListener listener, Executor executor) {
+        this.listeners.add(tree, false, listener, executor);
     }
 
-    public Short getShort(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : number.shortValue();
+    public void addPrefixListener(String prefix, ConfigChangeListener listener, Executor executor) {
+        this.listeners.add(prefix, true, listener, executor);
     }
 
-    public Short getShortOrElse(String tree, Short elseValue) {
-        return getNumberOrElse(tree, elseValue).shortValue();
+    public void removeListener(ConfigChangeListener listener) {
+        this.listeners.remove(listener);
     }
 
-    public BigDecimal getBigDecimal(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : BigDecimal.valueOf(number.doubleValue());
+    public Config watch() {
+        return watch(ConfigWatcher.DEFAULT_DEBOUNCE);
     }
 
-    public BigDecimal getBigDecimalOrElse(String tree, BigDecimal elseValue) {
-        return BigDecimal.valueOf(getNumberOrElse(tree, elseValue).doubleValue());
+    public synchronized Config watch(Duration debounce) {
+        Objects.requireNonNull(debounce, "debounce is null");
+        if (this.watcher == null) this.watcher = new ConfigWatcher(this, debounce);
+        return this;
+    }
+
+    public synchronized void unwatch() {
+        if (this.watcher != null) {
+            this.watcher.close();
+            this.watcher = null;
+        }
     }
 
-    public BigInteger getBigInteger(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : BigInteger.valueOf(number.intValue());
+    public synchronized boolean isWatching() {
+        return this.watcher != null;
     }
 
-    public BigInteger getBigIntegerOrElse(String tree, BigInteger elseValue) {
-        return BigInteger.valueOf(getNumberOrElse(tree, elseValue).intValue());
+    public <T> ConfigKey<T> key(String tree, Class<T> type) {
+        return new ConfigKey<>(this, tree, type);
     }
 
-    public AtomicInteger getAtomicInteger(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : new AtomicInteger(number.intValue());
+    public IntKey intKey(String tree) {
+        return new IntKey(this, tree);
     }
 
-    public AtomicInteger getAtomicIntegerOrElse(String tree, AtomicInteger elseValue) {
-        return new AtomicInteger(getNumberOrElse(tree, elseValue).intValue());
+    public LongKey longKey(String tree) {
+        return new LongKey(this, tree);
     }
 
-    public AtomicLong getAtomicLong(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : new AtomicLong(number.longValue());
+    public DoubleKey doubleKey(String tree) {
+        return new DoubleKey(this, tree);
     }
 
-    public AtomicLong getAtomicLongOrElse(String tree, AtomicLong elseValue) {
-        return new AtomicLong(getNumberOrElse(tree, elseValue).longValue());
+    public BooleanKey booleanKey(String tree) {
+        return new BooleanKey(this, tree);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.dwilliam.config;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+public final class ConfigArray extends AbstractList<Object> implements RandomAccess {
+
+    private final int[] ints;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Object[] objects;
+    private final boolean text;
+
+    ConfigArray(List<?> list) {
+        int size = list.size();
+        boolean small = true;
+        boolean integral = true;
+        boolean floating = true;
+        boolean text = true;
+        for (Object element : list) {
+            small &= element instanceof Integer;
+            integral &= element instanceof Integer || element instanceof Long;
+            floating &= element instanceof Double;
+            text &= element instanceof String;
+        }
+        this.ints = small && size > 0 ? new int[size] : null;
+        this.longs = integral && !small ? new long[size] : null;
+        this.doubles = floating && size > 0 ? new double[size] : null;
+        this.objects = this.ints == null && this.longs == null && this.doubles == null ? new Object[size] : null;
+        this.text = text;
+        for (int i = 0; i < size; i++) {
+            Object element = list.get(i);
+            if (this.ints != null) this.ints[i] = (Integer) element;
+            else if (this.longs != null) this.longs[i] = ((Number) element).longValue();
+            else if (this.doubles != null) this.doubles[i] = (Double) element;
+            else if (element instanceof List && !(element instanceof ConfigArray)) this.objects[i] = new ConfigArray((List<?>) element);
+            else if (element instanceof Map) this.objects[i] = Collections.unmodifiableMap((Map<?, ?>) element);
+            else this.objects[i] = element;
+        }
+    }
+
+    @Override
+    public Object get(int index) {
+        if (this.ints != null) return this.ints[index];
+        if (this.longs != null) {
+            long value = this.longs[index];
+            return value == (int) value ? (Object) (int) value : (Object) value;
+        }
+        if (this.doubles != null) return this.doubles[index];
+        return this.objects[index];
+    }
+
+    @Override
+    public int size() {
+        if (this.ints != null) return this.ints.length;
+        if (this.longs != null) return this.longs.length;
+        if (this.doubles != null) return this.doubles.length;
+        return this.objects.length;
+    }
+
+    public int getInt(int index) {
+        if (this.ints != null) return this.ints[index];
+        if (this.longs != null) return (int) this.longs[index];
+        if (this.doubles != null) return (int) this.doubles[index];
+        return number(index).intValue();
+    }
+
+    public long getLong(int index) {
+        if (this.ints != null) return this.ints[index];
+        if (this.longs != null) return this.longs[index];
+        if (this.doubles != null) return (long) this.doubles[index];
+        return number(index).longValue();
+    }
+
+    public double getDouble(int index) {
+        if (this.ints != null) return this.ints[index];
+        if (this.longs != null) return this.longs[index];
+        if (this.doubles != null) return this.doubles[index];
+        return number(index).doubleValue();
+    }
+
+    public boolean getBoolean(int index) {
+        if (this.objects == null) throw new ClassCastException("Cannot cast element " + index + " to Boolean");
+        Object element = this.objects[index];
+        if (element instanceof Boolean) return (Boolean) element;
+        throw new ClassCastException("Cannot cast element " + index + " to Boolean");
+    }
+
+    public String getString(int index) {
+        if (this.objects == null) throw new ClassCastException("Cannot cast element " + index + " to String");
+        Object element = this.objects[index];
+        if (element == null || element instanceof String) return (String) element;
+        throw new ClassCastException("Cannot cast element " + index + " to String");
+    }
+
+    public int[] toIntArray() {
+        if (this.ints != null) return this.ints.clone();
+        if (this.doubles != null) throw new ClassCastException("Cannot cast array to int[]");
+        int[] ints = new int[size()];
+        for (int i = 0; i < ints.length; i++) {
+            long value = this.longs != null ? this.longs[i] : integral(i, "int[]");
+            if (value != (int) value) throw new ClassCastException("Cannot cast array to int[]");
+            ints[i] = (int) value;
+        }
+        return ints;
+    }
+
+    public long[] toLongArray() {
+        if (this.longs != null) return this.longs.clone();
+        if (this.doubles != null) throw new ClassCastException("Cannot cast array to long[]");
+        long[] longs = new long[size()];
+        for (int i = 0; i < longs.length; i++) longs[i] = this.ints != null ? this.ints[i] : integral(i, "long[]");
+        return longs;
+    }
+
+    public double[] toDoubleArray() {
+        if (this.doubles != null) return this.doubles.clone();
+        double[] doubles = new double[size()];
+        for (int i = 0; i < doubles.length; i++) {
+            if (this.objects == null) {
+                doubles[i] = getDouble(i);
+                continue;
+            }
+            Object element = this.objects[i];
+            if (!(element instanceof Number) || element instanceof BigInteger || element instanceof BigDecimal) throw new ClassCastException("Cannot cast array to double[]");
+            doubles[i] = ((Number) element).doubleValue();
+        }
+        return doubles;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> toStringList() {
+        if (!this.text) throw new ClassCastException("Cannot cast array to List<String>");
+        return (List<String>) (List<?>) Collections.unmodifiableList(Arrays.asList(this.objects));
+    }
+
+    long valueBytes() {
+        if (this.ints != null) return ConfigMemoryStats.align(16 + 4L * this.ints.length) + 40;
+        if (this.longs != null) return ConfigMemoryStats.align(16 + 8L * this.longs.length) + 40;
+        if (this.doubles != null) return ConfigMemoryStats.align(16 + 8L * this.doubles.length) + 40;
+        long bytes = ConfigMemoryStats.align(16 + 4L * this.objects.length) + 40;
+        for (Object element : this.objects) bytes += ConfigValues.valueBytes(element);
+        return bytes;
+    }
+
+    private long integral(int index, String type) {
+        Object element = this.objects[index];
+        if (element instanceof Integer || element instanceof Long || element instanceof Short || element instanceof Byte) return ((Number) element).longValue();
+        throw new ClassCastException("Cannot cast array to " + type);
+    }
+
+    private Number number(int index) {
+        Object element = this.objects[index];
+        if (element instanceof Number) return (Number) element;
+        throw new ClassCastException("Cannot cast element " + index + " to Number");
+    }
+
+}
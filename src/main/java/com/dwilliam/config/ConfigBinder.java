@@ -0,0 +1,235 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigBindException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class ConfigBinder<T> {
+
+    private static final ClassValue<ConfigBinder<?>> BINDERS = new ClassValue<>() {
+
+        @Override
+        protected ConfigBinder<?> computeValue(Class<?> type) {
+            return new ConfigBinder<>(type);
+        }
+
+    };
+
+    private static final Object MISSING = new Object();
+    private static final Set<Class<?>> VALUES = Set.of(String.class, Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class,
+            Boolean.class, Character.class, BigDecimal.class, BigInteger.class, Number.class, Object.class, int[].class, long[].class, double[].class,
+            ConfigArray.class);
+
+    private static final class Property {
+
+        final String name;
+        final Class<?> type;
+        final MethodHandle setter;
+
+        Property(String name, Class<?> type, MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+        }
+
+    }
+
+    private final Class<T> type;
+    private final boolean record;
+    private final boolean immutable;
+    private final MethodHandle constructor;
+    private final Property[] properties;
+
+    private ConfigBinder(Class<T> type) {
+        this.type = type;
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || !bindable(type)) throw unsupported(type, "not a record or a concrete class");
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<Property> properties = new ArrayList<>();
+        try {
+            Object[] components = components(type);
+            this.record = components != null;
+            if (this.record) {
+                Class<?>[] types = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    Method name = components[i].getClass().getMethod("getName");
+                    Method componentType = components[i].getClass().getMethod("getType");
+                    types[i] = (Class<?>) componentType.invoke(components[i]);
+                    properties.add(new Property((String) name.invoke(components[i]), types[i], null));
+                }
+                Constructor<T> constructor = type.getDeclaredConstructor(types);
+                constructor.setAccessible(true);
+                this.constructor = lookup.unreflectConstructor(constructor).asSpreader(Object[].class, types.length)
+                                         .asType(MethodType.methodType(Object.class, Object[].class));
+            }
+            else {
+                Constructor<T> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                this.constructor = lookup.unreflectConstructor(constructor);
+                for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+                        field.setAccessible(true);
+                        properties.add(new Property(field.getName(), field.getType(), lookup.unreflectSetter(field)));
+                    }
+                }
+            }
+        }
+        catch (NoSuchMethodException e) {
+            throw unsupported(type, "no " + (components(type) != null ? "canonical" : "no-arg") + " constructor");
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            throw unsupported(type, e.toString());
+        }
+        for (Property property : properties) {
+            if (!supported(property.type)) throw unsupported(type, property.name + " has unsupported type " + property.type.getName());
+        }
+        this.properties = properties.toArray(new Property[0]);
+        this.immutable = this.record && immutable(type, new HashSet<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ConfigBinder<T> of(Class<T> type) {
+        return (ConfigBinder<T>) BINDERS.get(type);
+    }
+
+    boolean isImmutable() {
+        return this.immutable;
+    }
+
+    T bind(ConfigSnapshot snapshot, String tree) {
+        List<String> errors = new ArrayList<>();
+        T value = bind(snapshot, tree, errors);
+        if (!errors.isEmpty()) throw new ConfigBindException(tree, this.type, errors);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T bind(ConfigSnapshot snapshot, String tree, List<String> errors) {
+        int failures = errors.size();
+        Object[] values = new Object[this.properties.length];
+        for (int i = 0; i < values.length; i++) {
+            Property property = this.properties[i];
+            String child = ConfigSnapshot.child(tree, property.name);
+            try {
+                values[i] = value(snapshot, child, property.type, errors);
+            }
+            catch (ClassCastException | IllegalArgumentException e) {
+                errors.add(child + " : " + e.getMessage());
+                continue;
+            }
+            if (values[i] == MISSING && property.type.isPrimitive() && this.record) errors.add(child + " is not set");
+        }
+        if (errors.size() > failures) return null;
+        try {
+            if (this.record) {
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == MISSING) values[i] = null;
+                }
+                return (T) (Object) this.constructor.invokeExact(values);
+            }
+            Object instance = this.constructor.invoke();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != MISSING) this.properties[i].setter.invoke(instance, values[i]);
+            }
+            return (T) instance;
+        }
+        catch (Throwable e) {
+            errors.add((tree.isEmpty() ? "root" : tree) + " : " + e);
+            return null;
+        }
+    }
+
+    private static Object value(ConfigSnapshot snapshot, String tree, Class<?> type, List<String> errors) {
+        ConfigValues values = snapshot.values;
+        if (bindable(type)) {
+            if (values.keysUnder(tree).isEmpty()) return MISSING;
+            return of(type).bind(snapshot, tree, errors);
+        }
+        int slot = values.slot(tree);
+        if (values.isNull(slot)) return MISSING;
+        if (type == int.class || type == Integer.class) return values.intValue(slot);
+        if (type == long.class || type == Long.class) return values.longValue(slot);
+        if (type == double.class || type == Double.class) return values.doubleValue(slot);
+        if (type == float.class || type == Float.class) return (float) values.doubleValue(slot);
+        if (type == short.class || type == Short.class) return (short) values.intValue(slot);
+        if (type == byte.class || type == Byte.class) return (byte) values.intValue(slot);
+        if (type == boolean.class || type == Boolean.class) return values.booleanValue(slot);
+        if (type == BigDecimal.class) return snapshot.bigDecimal(tree);
+        if (type == BigInteger.class) return snapshot.bigInteger(tree);
+        Object value = values.value(slot);
+        if (type == char.class || type == Character.class) return ConfigKey.convert(tree, value, Character.class);
+        if (type.isEnum()) return enumValue(tree, value, type);
+        if (type == int[].class) return array(tree, value).toIntArray();
+        if (type == long[].class) return array(tree, value).toLongArray();
+        if (type == double[].class) return array(tree, value).toDoubleArray();
+        if (type.isInstance(value)) return value;
+        throw new ClassCastException("Cannot cast " + tree + " value to " + type.getSimpleName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(String tree, Object value, Class<?> type) {
+        if (!(value instanceof String)) throw new ClassCastException("Cannot cast " + tree + " value to " + type.getSimpleName());
+        return Enum.valueOf((Class) type, (String) value);
+    }
+
+    private static ConfigArray array(String tree, Object value) {
+        if (value instanceof ConfigArray) return (ConfigArray) value;
+        throw new ClassCastException("Cannot cast " + tree + " value to array");
+    }
+
+    private static boolean supported(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || VALUES.contains(type) || bindable(type);
+    }
+
+    private static boolean immutable(Class<?> type, Set<Class<?>> visited) {
+        if (type.isPrimitive() || type.isEnum() || type == String.class || type == Integer.class || type == Long.class
+            || type == Double.class || type == Float.class || type == Short.class || type == Byte.class || type == Boolean.class
+            || type == Character.class || type == BigDecimal.class || type == BigInteger.class || type == ConfigArray.class) return true;
+        Object[] components = components(type);
+        if (components == null) return false;
+        if (!visited.add(type)) return true;
+        try {
+            for (Object component : components) {
+                if (!immutable((Class<?>) component.getClass().getMethod("getType").invoke(component), visited)) return false;
+            }
+            return true;
+        }
+        catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static boolean bindable(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isInterface()
+               && !type.getName().startsWith("java.") && type != ConfigArray.class;
+    }
+
+    private static Object[] components(Class<?> type) {
+        Class<?> parent = type.getSuperclass();
+        if (parent == null || !parent.getName().equals("java.lang.Record")) return null;
+        try {
+            return (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        }
+        catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ConfigBindException unsupported(Class<?> type, String reason) {
+        return new ConfigBindException("", type, List.of(reason));
+    }
+
+}
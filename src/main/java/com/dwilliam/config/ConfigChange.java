@@ -0,0 +1,52 @@
+package com.dwilliam.config;
+
+public final class ConfigChange {
+
+    private final Config config;
+    private final String tree;
+    private final boolean added;
+    private final boolean removed;
+    private final Object oldValue;
+    private final Object newValue;
+
+    ConfigChange(Config config, String tree, boolean added, boolean removed, Object oldValue, Object newValue) {
+        this.config = config;
+        this.tree = tree;
+        this.added = added;
+        this.removed = removed;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public Config config() {
+        return this.config;
+    }
+
+    public String tree() {
+        return this.tree;
+    }
+
+    public boolean isAdded() {
+        return this.added;
+    }
+
+    public boolean isRemoved() {
+        return this.removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T oldValue() {
+        return (T) this.oldValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T newValue() {
+        return (T) this.newValue;
+    }
+
+    @Override
+    public String toString() {
+        return this.tree + " : " + this.oldValue + " -> " + this.newValue;
+    }
+
+}
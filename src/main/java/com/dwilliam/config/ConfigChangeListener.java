@@ -0,0 +1,8 @@
+package com.dwilliam.config;
+
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onChange(ConfigChange change);
+
+}
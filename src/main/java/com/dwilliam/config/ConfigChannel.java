@@ -0,0 +1,125 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileException;
+import com.dwilliam.config.exception.ConfigFileSnapshotParseException;
+import com.dwilliam.config.exception.NoSuchConfigFileException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public final class ConfigChannel implements Closeable {
+
+    static final int MAGIC = 0x43464743;
+    static final int HEADER = 16;
+
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Config config;
+    private final Path path;
+    private final ByteBuffer control;
+    private final Runnable dependent = this::publish;
+    private long sequence;
+    private boolean closed;
+
+    private ConfigChannel(Config config, Path path, ByteBuffer control) {
+        this.config = config;
+        this.path = path;
+        this.control = control;
+        this.sequence = sequence(control);
+    }
+
+    public static ConfigChannel publish(Config config, Path path) {
+        Objects.requireNonNull(config, "config is null");
+        Objects.requireNonNull(path, "path is null");
+        ConfigChannel channel = new ConfigChannel(config, path, map(path, true));
+        channel.publish();
+        config.addDependent(channel.dependent);
+        return channel;
+    }
+
+    public static Config subscribe(Path path) {
+        Objects.requireNonNull(path, "path is null");
+        return ChannelConfig.open(path, map(path, false));
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    public synchronized long sequence() {
+        return this.sequence;
+    }
+
+    synchronized void publish() {
+        if (this.closed) return;
+        long next = this.sequence + 1;
+        Path data = data(this.path, next);
+        try {
+            ConfigSnapshotFile.write(this.config.values(), data);
+        }
+        catch (IOException e) {
+            throw new ConfigFileException(data, e.getMessage());
+        }
+        SEQUENCE.setVolatile(this.control, SEQUENCE_OFFSET, next);
+        this.sequence = next;
+        try {
+            Files.deleteIfExists(data(this.path, next - 2));
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        this.config.removeDependent(this.dependent);
+    }
+
+    static long sequence(ByteBuffer control) {
+        return (long) SEQUENCE.getVolatile(control, SEQUENCE_OFFSET);
+    }
+
+    static Path data(Path path, long sequence) {
+        return path.resolveSibling(path.getFileName() + "." + sequence);
+    }
+
+    static ConfigSnapshot load(Path path, long sequence) {
+        return ConfigLoader.load(data(path, sequence), ConfigType.SNAPSHOT, false);
+    }
+
+    private static ByteBuffer map(Path path, boolean write) {
+        try (FileChannel channel = write
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 && write) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER).putInt(MAGIC);
+                header.clear();
+                while (header.hasRemaining()) channel.write(header);
+                size = HEADER;
+            }
+            if (size < HEADER) throw new ConfigFileSnapshotParseException(path, "Not a config channel");
+            ByteBuffer control = channel.map(write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            if (control.getInt(0) != MAGIC) throw new ConfigFileSnapshotParseException(path, "Not a config channel");
+            return control;
+        }
+        catch (NoSuchFileException e) {
+            throw new NoSuchConfigFileException(path);
+        }
+        catch (IOException e) {
+            throw new ConfigFileException(path, e.getMessage());
+        }
+    }
+
+}
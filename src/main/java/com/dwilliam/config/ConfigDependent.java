@@ -0,0 +1,22 @@
+package com.dwilliam.config;
+
+import java.lang.ref.WeakReference;
+
+final class ConfigDependent implements Runnable {
+
+    private final Config source;
+    private final WeakReference<Config> target;
+
+    ConfigDependent(Config source, Config target) {
+        this.source = source;
+        this.target = new WeakReference<>(target);
+    }
+
+    @Override
+    public void run() {
+        Config target = this.target.get();
+        if (target == null) this.source.removeDependent(this);
+        else target.reload();
+    }
+
+}
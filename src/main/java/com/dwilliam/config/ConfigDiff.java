@@ -0,0 +1,52 @@
+package com.dwilliam.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+final class ConfigDiff {
+
+    private ConfigDiff() {
+    }
+
+    static List<ConfigChange> diff(Config config, ConfigSnapshot before, ConfigSnapshot after) {
+        List<ConfigChange> changes = new ArrayList<>();
+        if (before.branches.isEmpty() || after.branches.isEmpty()) flat(config, before, after, changes);
+        else branch(config, before, after, ConfigSnapshot.ROOT, changes);
+        return changes;
+    }
+
+    private static void flat(Config config, ConfigSnapshot before, ConfigSnapshot after, List<ConfigChange> changes) {
+        for (String tree : before.values.keySet()) leaf(config, before, after, tree, changes);
+        for (String tree : after.values.keySet()) {
+            if (!before.values.containsKey(tree)) leaf(config, before, after, tree, changes);
+        }
+    }
+
+    private static void branch(Config config, ConfigSnapshot before, ConfigSnapshot after, String tree, List<ConfigChange> changes) {
+        ConfigSnapshot.Branch oldBranch = before.branches.get(tree);
+        ConfigSnapshot.Branch newBranch = after.branches.get(tree);
+        if (oldBranch != null && newBranch != null && oldBranch.hash == newBranch.hash) return;
+
+        Set<String> children = new LinkedHashSet<>();
+        if (oldBranch != null) children.addAll(List.of(oldBranch.children));
+        if (newBranch != null) children.addAll(List.of(newBranch.children));
+        for (String name : children) {
+            String child = ConfigSnapshot.child(tree, name);
+            if (before.branches.containsKey(child) || after.branches.containsKey(child)) branch(config, before, after, child, changes);
+            if (before.values.containsKey(child) || after.values.containsKey(child)) leaf(config, before, after, child, changes);
+        }
+    }
+
+    private static void leaf(Config config, ConfigSnapshot before, ConfigSnapshot after, String tree, List<ConfigChange> changes) {
+        boolean existed = before.values.containsKey(tree);
+        boolean exists = after.values.containsKey(tree);
+        Object oldValue = before.values.get(tree);
+        Object newValue = after.values.get(tree);
+        if (existed && exists && Objects.equals(oldValue, newValue)) return;
+        changes.add(new ConfigChange(config, tree, !existed, !exists, oldValue, newValue));
+    }
+
+}
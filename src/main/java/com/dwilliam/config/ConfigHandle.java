@@ -0,0 +1,53 @@
+package com.dwilliam.config;
+
+import java.util.Objects;
+
+abstract class ConfigHandle<B extends ConfigHandle.Binding> {
+
+    static class Binding {
+
+        final ConfigValues values;
+        final int slot;
+        final boolean present;
+
+        Binding(ConfigValues values, int slot, boolean present) {
+            this.values = values;
+            this.slot = slot;
+            this.present = present;
+        }
+
+    }
+
+    final Config config;
+    final String tree;
+    private volatile B binding;
+
+    ConfigHandle(Config config, String tree) {
+        this.config = Objects.requireNonNull(config, "config is null");
+        this.tree = Objects.requireNonNull(tree, "tree is null");
+    }
+
+    abstract B bind(ConfigValues values);
+
+    final B binding() {
+        B binding = resolve();
+        if (Configs.METRICS) this.config.metrics.read(binding.values, binding.slot);
+        return binding;
+    }
+
+    final B resolve() {
+        B binding = this.binding;
+        ConfigValues values = this.config.values();
+        if (binding == null || binding.values != values) this.binding = binding = bind(values);
+        return binding;
+    }
+
+    public String tree() {
+        return this.tree;
+    }
+
+    public boolean isPresent() {
+        return binding().present;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.dwilliam.config;
+
+import java.util.List;
+import java.util.Map;
+
+final class ConfigHashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ConfigHashing() {
+    }
+
+    static long entry(String tree, long valueHash) {
+        return mix(string(tree) * 31 + valueHash);
+    }
+
+    static long hash(Object value) {
+        if (value == null) return 0x9e3779b97f4a7c15L;
+        if (value instanceof String) return string((String) value);
+        if (value instanceof Boolean) return (Boolean) value ? 0x5bd1e995L : 0x27d4eb2dL;
+        if (value instanceof Double || value instanceof Float) return mix(Double.doubleToLongBits(((Number) value).doubleValue()) ^ 0x3c6ef372L);
+        if (value instanceof Number) return mix(string(value.toString()) + 0x1b873593L);
+        if (value instanceof List) {
+            long hash = 0x6a09e667L;
+            for (Object element : (List<?>) value) hash = mix(hash * 31 + hash(element));
+            return hash;
+        }
+        if (value instanceof Map) {
+            long hash = 0xbb67ae85L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) hash += entry(String.valueOf(entry.getKey()), hash(entry.getValue()));
+            return mix(hash);
+        }
+        return mix(string(value.toString()) + 0x85ebca6bL);
+    }
+
+    static long string(String string) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < string.length(); i++) {
+            hash ^= string.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.dwilliam.config;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class ConfigKey<T> extends ConfigHandle<ConfigKey.Bound<T>> implements Supplier<T> {
+
+    static final class Bound<T> extends ConfigHandle.Binding {
+
+        final T value;
+
+        Bound(ConfigValues values, int slot, T value) {
+            super(values, slot, value != null);
+            this.value = value;
+        }
+
+    }
+
+    private final Class<T> type;
+
+    ConfigKey(Config config, String tree, Class<T> type) {
+        super(config, tree);
+        this.type = Objects.requireNonNull(type, "type is null");
+        resolve();
+    }
+
+    @Override
+    Bound<T> bind(ConfigValues values) {
+        int slot = values.slot(this.tree);
+        return new Bound<>(values, slot, convert(values, slot, this.tree, this.type));
+    }
+
+    public Class<T> type() {
+        return this.type;
+    }
+
+    @Override
+    public T get() {
+        return binding().value;
+    }
+
+    public T getOrElse(T elseValue) {
+        T value = binding().value;
+        return value == null ? elseValue : value;
+    }
+
+    static <T> T convert(ConfigValues values, int slot, String tree, Class<T> type) {
+        if (values.isNull(slot)) return null;
+        if (type == BigDecimal.class) return type.cast(values.bigDecimalValue(slot));
+        if (type == BigInteger.class) return type.cast(values.bigIntegerValue(slot));
+        return convert(tree, values.value(slot), type);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T convert(String tree, Object value, Class<T> type) {
+        if (value == null || type.isInstance(value)) return (T) value;
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (type == Integer.class) return (T) Integer.valueOf(number.intValue());
+            if (type == Long.class) return (T) Long.valueOf(number.longValue());
+            if (type == Double.class) return (T) Double.valueOf(number.doubleValue());
+            if (type == Float.class) return (T) Float.valueOf(number.floatValue());
+            if (type == Short.class) return (T) Short.valueOf(number.shortValue());
+            if (type == Byte.class) return (T) Byte.valueOf(number.byteValue());
+        }
+        if (value instanceof String && type == Character.class) {
+            String string = (String) value;
+            if (string.length() != 1) throw new ClassCastException("Cannot cast string of length != 1 to Character");
+            return (T) Character.valueOf(string.charAt(0));
+        }
+        throw new ClassCastException("Cannot cast " + tree + " value to " + type.getSimpleName());
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.dwilliam.config;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+final class ConfigListeners {
+
+    private static final class Registration {
+
+        final String tree;
+        final boolean prefix;
+        final ConfigChangeListener listener;
+        final Executor executor;
+
+        Registration(String tree, boolean prefix, ConfigChangeListener listener, Executor executor) {
+            this.tree = tree;
+            this.prefix = prefix;
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        boolean matches(String tree) {
+            if (!this.prefix) return this.tree.equals(tree);
+            if (this.tree.isEmpty()) return true;
+            return tree.startsWith(this.tree) && (tree.length() == this.tree.length() || tree.charAt(this.tree.length()) == '.');
+        }
+
+    }
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    void add(String tree, boolean prefix, ConfigChangeListener listener, Executor executor) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(listener, "listener is null");
+        Objects.requireNonNull(executor, "executor is null");
+        this.registrations.add(new Registration(tree, prefix, listener, executor));
+    }
+
+    void remove(ConfigChangeListener listener) {
+        this.registrations.removeIf(registration -> registration.listener == listener);
+    }
+
+    boolean isEmpty() {
+        return this.registrations.isEmpty();
+    }
+
+    void dispatch(List<ConfigChange> changes) {
+        for (Registration registration : this.registrations) {
+            for (ConfigChange change : changes) {
+                if (registration.matches(change.tree())) registration.executor.execute(() -> registration.listener.onChange(change));
+            }
+        }
+    }
+
+}
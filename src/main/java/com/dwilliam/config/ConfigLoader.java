@@ -0,0 +1,273 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.*;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+final class ConfigLoader {
+
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private ConfigLoader() {
+    }
+
+    static ConfigSnapshot load(Path path, ConfigType type) {
+        return load(path, type, false);
+    }
+
+    static ConfigSnapshot load(Path path, ConfigType type, boolean lazy) {
+        return load(path, type, lazy, null);
+    }
+
+    static ConfigSnapshot load(Path path, ConfigType type, boolean lazy, ConfigSchema schema) {
+        if (schema != null && (type == ConfigType.SNAPSHOT || lazy)) {
+            ConfigSnapshot loaded = load(path, type, lazy, null);
+            long parsed = System.nanoTime();
+            ConfigSnapshot.Builder config = ConfigSnapshot.Builder.copy(loaded.values);
+            config.validate(path, schema);
+            return build(config, parsed, loaded.flattenNanos);
+        }
+        if (type == ConfigType.SNAPSHOT) {
+            try {
+                return ConfigSnapshotFile.open(path);
+            }
+            catch (NoSuchFileException e) {
+                throw new NoSuchConfigFileException(path);
+            }
+            catch (IOException e) {
+                throw new ConfigFileException(path, e.getMessage());
+            }
+        }
+        if (lazy && type == ConfigType.JSON) {
+            try {
+                return LazyValues.open(path);
+            }
+            catch (NoSuchFileException e) {
+                throw new NoSuchConfigFileException(path);
+            }
+            catch (JsonParseException e) {
+                if (e.getOriginalMessage().startsWith("Invalid UTF-8")) throw new ConfigFileEncodingException(path);
+                throw new ConfigFileJsonParseException(path, "Not a json");
+            }
+            catch (IOException e) {
+                throw new ConfigFileException(path, e.getMessage());
+            }
+        }
+
+        ConfigSnapshot.Builder config = new ConfigSnapshot.Builder();
+        try (InputStream input = Files.newInputStream(path)) {
+            switch (type) {
+                case JSON:
+                    parse(path, input, Configs.MAPPER, config, message -> new ConfigFileJsonParseException(path, message), "json");
+                break;
+                case XML:
+                    parse(path, input, Configs.XML_MAPPER, config, message -> new ConfigFileXmlParseException(path, message), "xml");
+                break;
+                case YAML:
+                    parse(path, input, Configs.YAML_MAPPER, config, message -> new ConfigFileYamlParseException(path, message), "yaml");
+                break;
+                default:
+                    break;
+            }
+        }
+        catch (NoSuchFileException e) {
+            throw new NoSuchConfigFileException(path);
+        }
+        catch (CharacterCodingException | CharConversionException e) {
+            throw new ConfigFileEncodingException(path);
+        }
+        catch (IOException e) {
+            throw new ConfigFileException(path, e.getMessage());
+        }
+        catch (OutOfMemoryError e) {
+            throw new ConfigFileTooLargeException(path);
+        }
+        long parsed = System.nanoTime();
+        config.override(path, Configs.overrides());
+        if (schema != null) config.validate(path, schema);
+        return build(config, parsed, 0);
+    }
+
+    private static ConfigSnapshot build(ConfigSnapshot.Builder config, long parsed, long flattenNanos) {
+        ConfigSnapshot snapshot = config.build();
+        snapshot.flattenNanos = flattenNanos + System.nanoTime() - parsed;
+        return snapshot;
+    }
+
+    private static void parse(Path path, InputStream input, ObjectMapper mapper, ConfigSnapshot.Builder config,
+                              Function<String, ConfigFileParseException> error, String format) throws IOException {
+        try (JsonParser parser = mapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw error.apply("Not an " + format + " object");
+            if (mapper == Configs.XML_MAPPER) xmlObject(parser, config, error);
+            else object(parser, config);
+        }
+        catch (JsonParseException e) {
+            if (e.getOriginalMessage().startsWith("Invalid UTF-8")) throw new ConfigFileEncodingException(path);
+            throw error.apply("Not a " + format);
+        }
+        catch (JsonProcessingException e) {
+            throw error.apply(e.getOriginalMessage());
+        }
+    }
+
+    static void object(JsonParser parser, ConfigSnapshot.Builder config) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                config.beginObject(key);
+                object(parser, config);
+                config.endObject();
+            }
+            else if (token == JsonToken.START_ARRAY) {
+                array(config, key, parser.readValueAs(List.class));
+            }
+            else {
+                config.value(key, value(parser, token));
+            }
+        }
+    }
+
+    private static void xmlObject(JsonParser parser, ConfigSnapshot.Builder config, Function<String, ConfigFileParseException> error) throws IOException {
+        Set<String> seen = new HashSet<>();
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            if (!seen.add(key)) throw error.apply("Repeated element <" + key + "> is not contiguous");
+            parser.nextToken();
+            TokenBuffer sibling = new TokenBuffer(parser);
+            sibling.copyCurrentStructure(parser);
+            token = parser.nextToken();
+            if (token == JsonToken.FIELD_NAME && key.equals(parser.getCurrentName())) {
+                List<Object> group = new ArrayList<>();
+                group.add(xmlValue(replay(sibling, parser), error));
+                while (token == JsonToken.FIELD_NAME && key.equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    group.add(xmlValue(parser, error));
+                    token = parser.nextToken();
+                }
+                array(config, key, group);
+            }
+            else {
+                xmlElement(replay(sibling, parser), config, key, error);
+            }
+        }
+    }
+
+    private static JsonParser replay(TokenBuffer sibling, JsonParser parser) throws IOException {
+        JsonParser replay = sibling.asParser(parser.getCodec());
+        replay.nextToken();
+        return replay;
+    }
+
+    private static void xmlElement(JsonParser parser, ConfigSnapshot.Builder config, String key, Function<String, ConfigFileParseException> error) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            config.beginObject(key);
+            xmlObject(parser, config, error);
+            config.endObject();
+        }
+        else if (token == JsonToken.START_ARRAY) {
+            array(config, key, parser.readValueAs(List.class));
+        }
+        else {
+            config.value(key, xmlValue(parser, error));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object xmlValue(JsonParser parser, Function<String, ConfigFileParseException> error) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) return parser.readValueAs(List.class);
+        if (token == JsonToken.VALUE_STRING) return typed(parser.getText());
+        if (token != JsonToken.START_OBJECT) return value(parser, token);
+        Map<String, Object> object = new LinkedHashMap<>();
+        Set<String> repeated = new HashSet<>();
+        String last = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            Object value = xmlValue(parser, error);
+            if (!object.containsKey(key)) object.put(key, value);
+            else if (!key.equals(last)) throw error.apply("Repeated element <" + key + "> is not contiguous");
+            else if (repeated.add(key)) object.put(key, new ArrayList<>(Arrays.asList(object.get(key), value)));
+            else ((List<Object>) object.get(key)).add(value);
+            last = key;
+        }
+        return object;
+    }
+
+    static Object typed(String text) {
+        if (text.equals("true")) return Boolean.TRUE;
+        if (text.equals("false")) return Boolean.FALSE;
+        if (!NUMBER.matcher(text).matches()) return text;
+        if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+            BigInteger integer = new BigInteger(text);
+            if (integer.bitLength() < Integer.SIZE) return integer.intValue();
+            if (integer.bitLength() < Long.SIZE) return integer.longValue();
+            return integer;
+        }
+        return Double.valueOf(text);
+    }
+
+    static void array(ConfigSnapshot.Builder config, String key, List<?> list) {
+        config.value(key, new ConfigArray(list));
+        for (int i = 0; i < list.size(); i++) {
+            Object element = list.get(i);
+            if (element instanceof Map || element instanceof List) element(config, key + "[" + i + "]", element);
+        }
+    }
+
+    private static void element(ConfigSnapshot.Builder config, String key, Object element) {
+        if (element instanceof Map) {
+            config.beginObject(key);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) element(config, String.valueOf(entry.getKey()), entry.getValue());
+            config.endObject();
+        }
+        else if (element instanceof List) {
+            array(config, key, (List<?>) element);
+        }
+        else {
+            config.value(key, element);
+        }
+    }
+
+    static Object value(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.dwilliam.config;
+
+public final class ConfigMemoryStats {
+
+    private final int keys;
+    private final int branches;
+    private final long keyBytes;
+    private final long flatKeyBytes;
+    private final long valueBytes;
+    private final int strings;
+
+    ConfigMemoryStats(int keys, int branches, long keyBytes, long flatKeyBytes, long valueBytes, int strings) {
+        this.keys = keys;
+        this.branches = branches;
+        this.keyBytes = keyBytes;
+        this.flatKeyBytes = flatKeyBytes;
+        this.valueBytes = valueBytes;
+        this.strings = strings;
+    }
+
+    static long stringBytes(String string) {
+        boolean latin1 = true;
+        for (int i = 0; i < string.length() && latin1; i++) latin1 = string.charAt(i) < 256;
+        return align(24) + align(16 + (long) string.length() * (latin1 ? 1 : 2));
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    public int keys() {
+        return this.keys;
+    }
+
+    public int branches() {
+        return this.branches;
+    }
+
+    public long keyBytes() {
+        return this.keyBytes;
+    }
+
+    public long flatKeyBytes() {
+        return this.flatKeyBytes;
+    }
+
+    public long valueBytes() {
+        return this.valueBytes;
+    }
+
+    public long totalBytes() {
+        return this.keyBytes + this.valueBytes;
+    }
+
+    public int strings() {
+        return this.strings;
+    }
+
+    @Override
+    public String toString() {
+        return this.keys + " keys in " + this.branches + " branches : keys " + this.keyBytes + " bytes (" + this.flatKeyBytes + " bytes as flat strings), values "
+               + this.valueBytes + " bytes, " + this.strings + " distinct strings";
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.dwilliam.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ConfigMetrics implements ConfigMetricsMXBean {
+
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE = 1 << PAGE_BITS;
+    private static final int STRIPES = stripes();
+
+    private static final class Stripe {
+
+        final Thread owner;
+        volatile long[][] pages = new long[16][];
+
+        Stripe(Thread owner) {
+            this.owner = owner;
+        }
+
+        void increment(int slot) {
+            long[][] pages = this.pages;
+            int index = slot >>> PAGE_BITS;
+            long[] page;
+            if (index >= pages.length || (page = pages[index]) == null) page = page(index);
+            page[slot & (PAGE - 1)]++;
+        }
+
+        private long[] page(int index) {
+            long[][] pages = this.pages;
+            if (index >= pages.length) pages = Arrays.copyOf(pages, Math.max(index + 1, pages.length * 2));
+            long[] page = new long[PAGE];
+            pages[index] = page;
+            this.pages = pages;
+            return page;
+        }
+
+    }
+
+    private static final class Counters {
+
+        final ConfigValues values;
+        final Stripe[] stripes = new Stripe[STRIPES];
+        volatile AtomicLongArray[] shared = new AtomicLongArray[16];
+
+        Counters(ConfigValues values) {
+            this.values = values;
+        }
+
+        void increment(int slot) {
+            Thread thread = Thread.currentThread();
+            Stripe stripe = this.stripes[(int) thread.getId() & (STRIPES - 1)];
+            if (stripe != null && stripe.owner == thread) stripe.increment(slot);
+            else share(thread, slot);
+        }
+
+        private void share(Thread thread, int slot) {
+            Stripe stripe = this.stripes[(int) thread.getId() & (STRIPES - 1)];
+            if (stripe == null && (stripe = claim(thread)) != null) stripe.increment(slot);
+            else shared(slot >>> PAGE_BITS).getAndIncrement(slot & (PAGE - 1));
+        }
+
+        private synchronized Stripe claim(Thread thread) {
+            int index = (int) thread.getId() & (STRIPES - 1);
+            if (this.stripes[index] != null) return null;
+            this.stripes[index] = new Stripe(thread);
+            return this.stripes[index];
+        }
+
+        private AtomicLongArray shared(int index) {
+            AtomicLongArray[] shared = this.shared;
+            AtomicLongArray page;
+            if (index < shared.length && (page = shared[index]) != null) return page;
+            return allocate(index);
+        }
+
+        private synchronized AtomicLongArray allocate(int index) {
+            AtomicLongArray[] shared = this.shared;
+            if (index >= shared.length) this.shared = shared = Arrays.copyOf(shared, Math.max(index + 1, shared.length * 2));
+            if (shared[index] == null) shared[index] = new AtomicLongArray(PAGE);
+            this.shared = shared;
+            return shared[index];
+        }
+
+        private void drain(Stripe stripe) {
+            long[][] pages = stripe.pages;
+            for (int i = 0; i < pages.length; i++) {
+                long[] page = pages[i];
+                if (page == null) continue;
+                for (int j = 0; j < PAGE; j++) {
+                    if (page[j] != 0) shared(i).getAndAdd(j, page[j]);
+                }
+            }
+        }
+
+        synchronized void collect(Map<String, Long> reads) {
+            for (int index = 0; index < STRIPES; index++) {
+                Stripe stripe = this.stripes[index];
+                if (stripe == null) continue;
+                if (!stripe.owner.isAlive()) {
+                    drain(stripe);
+                    this.stripes[index] = null;
+                    continue;
+                }
+                long[][] pages = stripe.pages;
+                for (int i = 0; i < pages.length; i++) {
+                    long[] page = pages[i];
+                    if (page == null) continue;
+                    for (int j = 0; j < PAGE; j++) {
+                        long count = page[j];
+                        if (count != 0) reads.merge(this.values.key(i * PAGE + j), count, Long::sum);
+                    }
+                }
+            }
+            AtomicLongArray[] shared = this.shared;
+            for (int i = 0; i < shared.length; i++) {
+                AtomicLongArray page = shared[i];
+                if (page == null) continue;
+                for (int j = 0; j < PAGE; j++) {
+                    long count = page.get(j);
+                    if (count != 0) reads.merge(this.values.key(i * PAGE + j), count, Long::sum);
+                }
+            }
+        }
+
+    }
+
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder conversionFailures = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder flattenNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Math::max, 0);
+    private final ConcurrentMap<String, Long> retired = new ConcurrentHashMap<>();
+    private final Config config;
+    private volatile Counters counters;
+
+    ConfigMetrics(Config config) {
+        this.config = config;
+    }
+
+    public static boolean isEnabled() {
+        return Configs.METRICS;
+    }
+
+    void read(ConfigValues values, int slot) {
+        if (slot < 0) {
+            this.misses.increment();
+            return;
+        }
+        Counters counters = this.counters;
+        if (counters == null || counters.values != values) counters = rotate(values);
+        counters.increment(slot < ConfigValues.ELEMENTS ? slot : values.arraySlot(slot));
+    }
+
+    private synchronized Counters rotate(ConfigValues values) {
+        Counters counters = this.counters;
+        if (counters != null && counters.values == values) return counters;
+        if (counters != null) {
+            Map<String, Long> reads = new HashMap<>();
+            counters.collect(reads);
+            reads.forEach((tree, count) -> this.retired.merge(tree, count, Long::sum));
+        }
+        this.counters = counters = new Counters(values);
+        return counters;
+    }
+
+    private static int stripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripes = 1;
+        while (stripes < processors * 2 && stripes < 64) stripes <<= 1;
+        return stripes;
+    }
+
+    void conversionFailure() {
+        this.conversionFailures.increment();
+    }
+
+    void load(long nanos, long flattenNanos) {
+        this.loads.increment();
+        this.loadNanos.add(nanos);
+        this.parseNanos.add(nanos - flattenNanos);
+        this.flattenNanos.add(flattenNanos);
+        this.maxLoadNanos.accumulate(nanos);
+    }
+
+    public Map<String, Long> reads() {
+        Map<String, Long> reads = new HashMap<>(this.retired);
+        Counters counters = this.counters;
+        if (counters != null) counters.collect(reads);
+        return Collections.unmodifiableMap(reads);
+    }
+
+    public List<String> unusedKeys() {
+        Map<String, Long> reads = reads();
+        List<String> unused = new ArrayList<>();
+        for (String tree : this.config.values().keySet()) {
+            if (!reads.containsKey(tree)) unused.add(tree);
+        }
+        return unused;
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public long conversionFailures() {
+        return this.conversionFailures.sum();
+    }
+
+    public long loads() {
+        return this.loads.sum();
+    }
+
+    public Duration loadTime() {
+        return Duration.ofNanos(this.loadNanos.sum());
+    }
+
+    public Duration maxLoadTime() {
+        return Duration.ofNanos(this.maxLoadNanos.get());
+    }
+
+    public Duration parseTime() {
+        return Duration.ofNanos(this.parseNanos.sum());
+    }
+
+    public Duration flattenTime() {
+        return Duration.ofNanos(this.flattenNanos.sum());
+    }
+
+    @Override
+    public long getReads() {
+        long reads = 0;
+        for (long count : reads().values()) reads += count;
+        return reads;
+    }
+
+    @Override
+    public long getMisses() {
+        return misses();
+    }
+
+    @Override
+    public long getConversionFailures() {
+        return conversionFailures();
+    }
+
+    @Override
+    public long getLoads() {
+        return loads();
+    }
+
+    @Override
+    public long getLoadTimeMillis() {
+        return loadTime().toMillis();
+    }
+
+    @Override
+    public long getMaxLoadTimeMillis() {
+        return maxLoadTime().toMillis();
+    }
+
+    @Override
+    public long getParseTimeMillis() {
+        return parseTime().toMillis();
+    }
+
+    @Override
+    public long getFlattenTimeMillis() {
+        return flattenTime().toMillis();
+    }
+
+    @Override
+    public Map<String, Long> getKeyReads() {
+        return reads();
+    }
+
+    @Override
+    public List<String> getUnusedKeys() {
+        return unusedKeys();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.dwilliam.config;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ConfigMetricsMXBean {
+
+    long getReads();
+
+    long getMisses();
+
+    long getConversionFailures();
+
+    long getLoads();
+
+    long getLoadTimeMillis();
+
+    long getMaxLoadTimeMillis();
+
+    long getParseTimeMillis();
+
+    long getFlattenTimeMillis();
+
+    Map<String, Long> getKeyReads();
+
+    List<String> getUnusedKeys();
+
+}
@@ -0,0 +1,127 @@
+package com.dwilliam.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+public final class ConfigOverrides {
+
+    public static final ConfigOverrides NONE = new ConfigOverrides(null, null, Map.of());
+
+    private final String environmentPrefix;
+    private final String propertyPrefix;
+    private final Map<String, String> aliases;
+
+    private ConfigOverrides(String environmentPrefix, String propertyPrefix, Map<String, String> aliases) {
+        this.environmentPrefix = environmentPrefix;
+        this.propertyPrefix = propertyPrefix;
+        this.aliases = aliases;
+    }
+
+    public static ConfigOverrides defaults() {
+        return of("APP_", "app.");
+    }
+
+    public static ConfigOverrides of(String environmentPrefix, String propertyPrefix) {
+        return new ConfigOverrides(environmentPrefix, propertyPrefix, Map.of());
+    }
+
+    public ConfigOverrides withAlias(String name, String tree) {
+        Objects.requireNonNull(name, "name is null");
+        Objects.requireNonNull(tree, "tree is null");
+        Map<String, String> aliases = new HashMap<>(this.aliases);
+        aliases.put(name, tree);
+        return new ConfigOverrides(this.environmentPrefix, this.propertyPrefix, Map.copyOf(aliases));
+    }
+
+    boolean apply(TypedValues.Builder values, List<String> errors) {
+        return apply(values, System.getenv(), System.getProperties(), errors);
+    }
+
+    boolean apply(TypedValues.Builder values, Map<String, String> environment, Properties properties, List<String> errors) {
+        Map<String, String> candidates = new HashMap<>();
+        Map<String, String> aliased = new HashMap<>();
+        if (this.environmentPrefix != null) {
+            for (Map.Entry<String, String> entry : environment.entrySet()) {
+                String name = entry.getKey();
+                if (name.startsWith(this.environmentPrefix) && !bootstrap(name)) candidates.put(normalize(name.substring(this.environmentPrefix.length())), entry.getValue());
+            }
+        }
+        if (this.propertyPrefix != null) {
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(this.propertyPrefix) && !bootstrap(name)) candidates.put(normalize(name.substring(this.propertyPrefix.length())), properties.getProperty(name));
+            }
+        }
+        for (Map.Entry<String, String> alias : this.aliases.entrySet()) {
+            String value = properties.getProperty(alias.getKey(), environment.get(alias.getKey()));
+            if (value != null) aliased.put(alias.getValue(), value);
+        }
+        if (candidates.isEmpty() && aliased.isEmpty()) return false;
+
+        boolean applied = false;
+        if (!candidates.isEmpty()) {
+            Map<String, String> trees = new HashMap<>();
+            for (int slot = 0; slot < values.size(); slot++) {
+                String tree = values.key(slot);
+                if (tree.indexOf('[') < 0 && !(values.value(slot) instanceof ConfigArray)) trees.putIfAbsent(normalize(tree), tree);
+            }
+            for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+                String tree = trees.get(candidate.getKey());
+                if (tree == null) continue;
+                applied |= put(values, tree, candidate.getValue(), errors);
+            }
+        }
+        for (Map.Entry<String, String> alias : aliased.entrySet()) applied |= put(values, alias.getKey(), alias.getValue(), errors);
+        return applied;
+    }
+
+    private static boolean put(TypedValues.Builder values, String tree, String value, List<String> errors) {
+        int slot = values.slot(tree);
+        try {
+            values.put(tree, coerce(value, slot < 0 ? null : values.value(slot)));
+            return true;
+        }
+        catch (IllegalArgumentException e) {
+            errors.add(tree + " : " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean bootstrap(String name) {
+        return name.startsWith(Configs.ENV_CONFIG_PREFIX) || name.startsWith(Configs.PROP_CONFIG_PREFIX);
+    }
+
+    static String normalize(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) builder.append(Character.toUpperCase(c));
+            else if (builder.length() > 0 && builder.charAt(builder.length() - 1) != '_') builder.append('_');
+        }
+        if (builder.length() > 0 && builder.charAt(builder.length() - 1) == '_') builder.setLength(builder.length() - 1);
+        return builder.toString();
+    }
+
+    private static Object coerce(String value, Object current) {
+        try {
+            if (current instanceof Integer || current instanceof Long || current instanceof Short || current instanceof Byte) {
+                long number = Long.parseLong(value.trim());
+                return number == (int) number ? (Object) (int) number : (Object) number;
+            }
+            if (current instanceof Double || current instanceof Float) return Double.parseDouble(value.trim());
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cannot convert \"" + value + "\" to " + current.getClass().getSimpleName());
+        }
+        if (current instanceof Boolean) {
+            String bool = value.trim().toLowerCase(Locale.ROOT);
+            if (bool.equals("true") || bool.equals("false")) return Boolean.parseBoolean(bool);
+            throw new IllegalArgumentException("Cannot convert \"" + value + "\" to Boolean");
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.dwilliam.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ConfigRegistry {
+
+    static final ConfigRegistry EMPTY = new ConfigRegistry(Map.of(), null);
+
+    private final Map<String, Config> configs;
+    private final String defaultName;
+    private final Config defaultConfig;
+
+    private ConfigRegistry(Map<String, Config> configs, String defaultName) {
+        this.configs = configs;
+        this.defaultName = defaultName;
+        this.defaultConfig = defaultName == null ? null : configs.get(defaultName);
+    }
+
+    Config get(String name) {
+        return this.configs.get(name);
+    }
+
+    Config defaultConfig() {
+        return this.defaultConfig;
+    }
+
+    Map<String, Config> configs() {
+        return this.configs;
+    }
+
+    ConfigRegistry with(String name, Config config) {
+        Map<String, Config> configs = new HashMap<>(this.configs);
+        configs.put(name, config);
+        return new ConfigRegistry(Collections.unmodifiableMap(configs), this.defaultName);
+    }
+
+    ConfigRegistry withAll(List<String> names, List<Config> configs) {
+        Map<String, Config> merged = new HashMap<>(this.configs);
+        for (int i = 0; i < names.size(); i++) merged.put(names.get(i), configs.get(i));
+        return new ConfigRegistry(Collections.unmodifiableMap(merged), this.defaultName);
+    }
+
+    ConfigRegistry withDefault(String name) {
+        return new ConfigRegistry(this.configs, name);
+    }
+
+}
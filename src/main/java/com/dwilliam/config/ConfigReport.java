@@ -0,0 +1,41 @@
+package com.dwilliam.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+public final class ConfigReport {
+
+    private final Path path;
+    private final ConfigType type;
+    private final Map<String, Object> values;
+    private final long nanos;
+
+    ConfigReport(Path path, ConfigType type, Map<String, Object> values, long nanos) {
+        this.path = path;
+        this.type = type;
+        this.values = values;
+        this.nanos = nanos;
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    public ConfigType type() {
+        return this.type;
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    public Map<String, Object> values() {
+        return this.values;
+    }
+
+    public Duration duration() {
+        return Duration.ofNanos(this.nanos);
+    }
+
+}
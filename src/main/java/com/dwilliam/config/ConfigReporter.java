@@ -0,0 +1,38 @@
+package com.dwilliam.config;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+@FunctionalInterface
+public interface ConfigReporter {
+
+    List<Pattern> DEFAULT_REDACTIONS = List.of(Pattern.compile("(?i)(password|passwd|secret|token|credential|private|api[-_.]?key)"));
+
+    ConfigReporter NONE = report -> {};
+
+    void report(ConfigReport report);
+
+    default void error(Path path, String message, RuntimeException error) {
+        new ConsoleReporter(System.out, System.err, false, List.of()).error(path, message, error);
+    }
+
+    static ConfigReporter console() {
+        return console(DEFAULT_REDACTIONS);
+    }
+
+    static ConfigReporter console(List<Pattern> redactions) {
+        return new ConsoleReporter(System.out, System.err, true, redactions);
+    }
+
+    static ConfigReporter summary() {
+        return new ConsoleReporter(System.out, System.err, false, List.of());
+    }
+
+    static ConfigReporter async(ConfigReporter reporter) {
+        Objects.requireNonNull(reporter, "reporter is null");
+        return new AsyncReporter(reporter);
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.dwilliam.config;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class ConfigSchema {
+
+    private static final Set<Class<?>> TYPES = Set.of(String.class, Integer.class, Long.class, Double.class, Boolean.class, Character.class,
+            Duration.class, ConfigArray.class);
+
+    static final class Rule {
+
+        final Function<Object, Object> coercion;
+        final boolean required;
+        final Object defaultValue;
+
+        Rule(Function<Object, Object> coercion, boolean required, Object defaultValue) {
+            this.coercion = coercion;
+            this.required = required;
+            this.defaultValue = defaultValue;
+        }
+
+    }
+
+    private final Map<String, Rule> rules;
+    private final boolean strict;
+
+    private ConfigSchema(Map<String, Rule> rules, boolean strict) {
+        this.rules = rules;
+        this.strict = strict;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Set<String> keys() {
+        return this.rules.keySet();
+    }
+
+    boolean apply(TypedValues.Builder values, List<String> errors) {
+        boolean changed = false;
+        for (Map.Entry<String, Rule> entry : this.rules.entrySet()) {
+            String tree = entry.getKey();
+            Rule rule = entry.getValue();
+            int slot = values.slot(tree);
+            Object value = slot < 0 ? null : values.value(slot);
+            if (value == null) {
+                if (rule.defaultValue != null) {
+                    values.put(tree, rule.defaultValue);
+                    changed = true;
+                }
+                else if (rule.required) errors.add(tree + " : missing");
+                continue;
+            }
+            try {
+                Object coerced = rule.coercion.apply(value);
+                if (coerced != value) {
+                    values.put(tree, coerced);
+                    changed = true;
+                }
+            }
+            catch (IllegalArgumentException e) {
+                errors.add(tree + " : " + e.getMessage());
+            }
+        }
+        if (this.strict) {
+            for (int slot = 0; slot < values.size(); slot++) {
+                String tree = values.key(slot);
+                int index = tree.indexOf('[');
+                if (!this.rules.containsKey(index < 0 ? tree : tree.substring(0, index))) errors.add(tree + " : not declared in schema");
+            }
+        }
+        return changed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object coerce(Class<?> type, Object value) {
+        if (type.isInstance(value)) return value;
+        if (type == Integer.class) {
+            long number = integral(type, value);
+            if (number != (int) number) throw new IllegalArgumentException("integer out of range : " + value);
+            return (int) number;
+        }
+        if (type == Long.class) return integral(type, value);
+        if (type == Double.class) {
+            if (value instanceof Number) return ((Number) value).doubleValue();
+            if (value instanceof String) {
+                try {
+                    return Double.parseDouble(((String) value).trim());
+                }
+                catch (NumberFormatException e) {
+                    throw mismatch(type, value);
+                }
+            }
+        }
+        if (type == Boolean.class && value instanceof String) {
+            String bool = ((String) value).trim().toLowerCase(Locale.ROOT);
+            if (bool.equals("true") || bool.equals("false")) return Boolean.parseBoolean(bool);
+        }
+        if (type == String.class && (value instanceof Number || value instanceof Boolean)) return value.toString();
+        if (type == Character.class && value instanceof String && ((String) value).length() == 1) return ((String) value).charAt(0);
+        if (type == Duration.class) {
+            if (value instanceof String) return ConfigUnits.duration((String) value);
+            if (value instanceof Integer || value instanceof Long) return Duration.ofMillis(((Number) value).longValue());
+        }
+        if (type.isEnum() && value instanceof String) {
+            String name = ((String) value).trim();
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum) constant).name().equals(name)) return constant;
+            }
+            throw new IllegalArgumentException("no " + type.getSimpleName() + " constant " + name);
+        }
+        throw mismatch(type, value);
+    }
+
+    static Object bytes(Object value) {
+        if (value instanceof String) return ConfigUnits.bytes((String) value);
+        long bytes = integral(Long.class, value);
+        if (bytes < 0) throw new IllegalArgumentException("negative size : " + value);
+        return bytes;
+    }
+
+    private static long integral(Class<?> type, Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) return ((Number) value).longValue();
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() < 64) return ((BigInteger) value).longValue();
+        if (value instanceof String) {
+            try {
+                return Long.parseLong(((String) value).trim());
+            }
+            catch (NumberFormatException e) {
+                throw mismatch(type, value);
+            }
+        }
+        throw mismatch(type, value);
+    }
+
+    private static IllegalArgumentException mismatch(Class<?> type, Object value) {
+        return new IllegalArgumentException("expected " + type.getSimpleName() + " but was " + value.getClass().getSimpleName() + " " + value);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Rule> rules = new LinkedHashMap<>();
+        private boolean strict;
+
+        private Builder() {
+        }
+
+        public Builder require(String tree, Class<?> type) {
+            return rule(tree, type, true, null);
+        }
+
+        public Builder optional(String tree, Class<?> type) {
+            return rule(tree, type, false, null);
+        }
+
+        public <T> Builder optional(String tree, Class<T> type, T defaultValue) {
+            Objects.requireNonNull(defaultValue, "default value is null");
+            return rule(tree, type, false, coerce(wrap(type), defaultValue));
+        }
+
+        public Builder requireBytes(String tree) {
+            return rule(tree, ConfigSchema::bytes, true, null);
+        }
+
+        public Builder optionalBytes(String tree) {
+            return rule(tree, ConfigSchema::bytes, false, null);
+        }
+
+        public Builder optionalBytes(String tree, long defaultValue) {
+            return rule(tree, ConfigSchema::bytes, false, bytes(defaultValue));
+        }
+
+        public Builder strict() {
+            this.strict = true;
+            return this;
+        }
+
+        private Builder rule(String tree, Class<?> type, boolean required, Object defaultValue) {
+            Objects.requireNonNull(type, "type is null");
+            Class<?> wrapped = wrap(type);
+            if (!wrapped.isEnum() && !TYPES.contains(wrapped)) throw new IllegalArgumentException("Unsupported schema type " + type.getName());
+            return rule(tree, value -> coerce(wrapped, value), required, defaultValue);
+        }
+
+        private Builder rule(String tree, Function<Object, Object> coercion, boolean required, Object defaultValue) {
+            Objects.requireNonNull(tree, "tree is null");
+            this.rules.put(tree, new Rule(coercion, required, defaultValue));
+            return this;
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            if (type == int.class) return Integer.class;
+            if (type == long.class) return Long.class;
+            if (type == double.class) return Double.class;
+            if (type == boolean.class) return Boolean.class;
+            if (type == char.class) return Character.class;
+            return type;
+        }
+
+        public ConfigSchema build() {
+            return new ConfigSchema(Collections.unmodifiableMap(new LinkedHashMap<>(this.rules)), this.strict);
+        }
+
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigOverrideException;
+import com.dwilliam.config.exception.ConfigSchemaException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+final class ConfigSnapshot {
+
+    static final String ROOT = "";
+    static final Object ABSENT = new Object();
+
+    static final class Invalid {
+
+        final ClassCastException error;
+
+        Invalid(String message) {
+            this.error = new ClassCastException(message);
+        }
+
+    }
+
+    static final class Branch {
+
+        final long hash;
+        final String[] children;
+
+        Branch(long hash, String[] children) {
+            this.hash = hash;
+            this.children = children;
+        }
+
+    }
+
+    final ConfigValues values;
+    final Map<String, Branch> branches;
+    final Config[] origins;
+    long flattenNanos;
+    private final ConcurrentMap<String, BigDecimal> bigDecimals = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, BigInteger> bigIntegers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> bindings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> enums = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> durations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> sizes = new ConcurrentHashMap<>();
+
+    ConfigSnapshot(ConfigValues values, Map<String, Branch> branches) {
+        this(values, branches, null);
+    }
+
+    ConfigSnapshot(ConfigValues values, Map<String, Branch> branches, Config[] origins) {
+        this.values = values;
+        this.branches = branches;
+        this.origins = origins;
+    }
+
+    BigDecimal bigDecimal(String tree) {
+        BigDecimal value = this.bigDecimals.get(tree);
+        if (value != null) return value;
+        int slot = this.values.slot(tree);
+        if (this.values.isNull(slot)) return null;
+        value = this.values.bigDecimalValue(slot);
+        BigDecimal previous = this.bigDecimals.putIfAbsent(tree, value);
+        return previous == null ? value : previous;
+    }
+
+    BigInteger bigInteger(String tree) {
+        BigInteger value = this.bigIntegers.get(tree);
+        if (value != null) return value;
+        int slot = this.values.slot(tree);
+        if (this.values.isNull(slot)) return null;
+        value = this.values.bigIntegerValue(slot);
+        BigInteger previous = this.bigIntegers.putIfAbsent(tree, value);
+        return previous == null ? value : previous;
+    }
+
+    Object enumValue(String tree, Class<?> type) {
+        return parse(this.enums.computeIfAbsent(type, key -> new ConcurrentHashMap<>()), tree, value -> ConfigSchema.coerce(type, value));
+    }
+
+    Object duration(String tree) {
+        return parse(this.durations, tree, value -> ConfigSchema.coerce(Duration.class, value));
+    }
+
+    Object bytes(String tree) {
+        return parse(this.sizes, tree, ConfigSchema::bytes);
+    }
+
+    private Object parse(ConcurrentMap<String, Object> cache, String tree, Function<Object, Object> parser) {
+        Object value = cache.get(tree);
+        if (value != null) return value;
+        int slot = this.values.slot(tree);
+        if (this.values.isNull(slot)) return ABSENT;
+        try {
+            value = parser.apply(this.values.value(slot));
+        }
+        catch (IllegalArgumentException e) {
+            value = new Invalid("Cannot convert " + tree + " value : " + e.getMessage());
+        }
+        Object previous = cache.putIfAbsent(tree, value);
+        return previous == null ? value : previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T bind(String tree, Class<T> type) {
+        ConfigBinder<T> binder = ConfigBinder.of(type);
+        if (!binder.isImmutable()) return binder.bind(this, tree);
+        ConcurrentMap<String, Object> bindings = this.bindings.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        Object value = bindings.get(tree);
+        if (value != null) return (T) value;
+        value = binder.bind(this, tree);
+        Object previous = bindings.putIfAbsent(tree, value);
+        return (T) (previous == null ? value : previous);
+    }
+
+    static String child(String tree, String key) {
+        return tree.isEmpty() ? key : tree + "." + key;
+    }
+
+    static final class Builder {
+
+        private static final class Frame {
+
+            final String tree;
+            final List<String> children = new ArrayList<>();
+            long hash;
+
+            Frame(String tree) {
+                this.tree = tree;
+            }
+
+        }
+
+        private final TypedValues.Builder values = new TypedValues.Builder();
+        private final Map<String, Branch> branches = new HashMap<>();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private boolean rewritten;
+
+        Builder() {
+            this.frames.push(new Frame(ROOT));
+        }
+
+        String beginObject(String key) {
+            Frame parent = this.frames.peek();
+            String tree = child(parent.tree, key);
+            parent.children.add(key);
+            this.frames.push(new Frame(tree));
+            return tree;
+        }
+
+        void endObject() {
+            Frame frame = this.frames.pop();
+            long hash = close(frame);
+            Frame parent = this.frames.peek();
+            parent.hash += ConfigHashing.entry(frame.tree, hash);
+        }
+
+        String value(String key, Object value) {
+            Frame parent = this.frames.peek();
+            String tree = child(parent.tree, key);
+            parent.children.add(key);
+            parent.hash += ConfigHashing.entry(tree, ConfigHashing.hash(value));
+            this.values.put(tree, value);
+            return tree;
+        }
+
+        static Builder copy(ConfigValues values) {
+            Builder builder = new Builder();
+            for (Map.Entry<String, Object> entry : values.entrySet()) builder.values.put(entry.getKey(), entry.getValue());
+            builder.rewritten = true;
+            return builder;
+        }
+
+        void override(Path path, ConfigOverrides overrides) {
+            List<String> errors = new ArrayList<>();
+            if (overrides.apply(this.values, errors)) this.rewritten = true;
+            if (!errors.isEmpty()) throw new ConfigOverrideException(path, errors);
+        }
+
+        void validate(Path path, ConfigSchema schema) {
+            List<String> errors = new ArrayList<>();
+            if (schema.apply(this.values, errors)) this.rewritten = true;
+            if (!errors.isEmpty()) throw new ConfigSchemaException(path, errors);
+        }
+
+        private long close(Frame frame) {
+            this.branches.put(frame.tree, new Branch(frame.hash, frame.children.toArray(new String[0])));
+            return frame.hash;
+        }
+
+        ConfigSnapshot build() {
+            if (this.frames.size() != 1) throw new IllegalStateException("unbalanced object");
+            close(this.frames.peek());
+            TypedValues values = this.values.build();
+            return new ConfigSnapshot(values, Collections.unmodifiableMap(this.rewritten ? rehash(values) : this.branches));
+        }
+
+        private Map<String, Branch> rehash(ConfigValues values) {
+            Map<String, Set<String>> children = new HashMap<>();
+            Set<String> placed = new HashSet<>();
+            for (Map.Entry<String, Branch> entry : this.branches.entrySet()) {
+                children.put(entry.getKey(), new LinkedHashSet<>(List.of(entry.getValue().children)));
+                for (String name : entry.getValue().children) placed.add(child(entry.getKey(), name));
+            }
+            for (String tree : values.keySet()) {
+                if (!placed.contains(tree)) place(children, placed, tree);
+            }
+            Map<String, Branch> branches = new HashMap<>();
+            hash(values, children, branches, ROOT);
+            return branches;
+        }
+
+        private static void place(Map<String, Set<String>> children, Set<String> placed, String tree) {
+            String parent = ROOT;
+            for (int dot = tree.lastIndexOf('.'); dot > 0; dot = tree.lastIndexOf('.', dot - 1)) {
+                if (children.containsKey(tree.substring(0, dot))) {
+                    parent = tree.substring(0, dot);
+                    break;
+                }
+            }
+            int start = parent.isEmpty() ? 0 : parent.length() + 1;
+            for (int dot = tree.indexOf('.', start); dot >= 0; dot = tree.indexOf('.', start)) {
+                String branch = tree.substring(0, dot);
+                children.get(parent).add(tree.substring(start, dot));
+                children.putIfAbsent(branch, new LinkedHashSet<>());
+                placed.add(branch);
+                parent = branch;
+                start = dot + 1;
+            }
+            children.get(parent).add(tree.substring(start));
+            placed.add(tree);
+        }
+
+        private static long hash(ConfigValues values, Map<String, Set<String>> children, Map<String, Branch> branches, String tree) {
+            Set<String> names = children.get(tree);
+            long hash = 0;
+            for (String name : names) {
+                String child = child(tree, name);
+                if (children.containsKey(child)) hash += ConfigHashing.entry(child, hash(values, children, branches, child));
+                int slot = values.slot(child);
+                if (slot >= 0 && slot < ConfigValues.ELEMENTS) hash += ConfigHashing.entry(child, ConfigHashing.hash(values.value(slot)));
+            }
+            branches.put(tree, new Branch(hash, names.toArray(new String[0])));
+            return hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileSnapshotParseException;
+import com.dwilliam.config.exception.ConfigFileTooLargeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class ConfigSnapshotFile {
+
+    static final int MAGIC = 0x43464753;
+    static final int VERSION = 1;
+    static final int HEADER = 12;
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte STRING = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte LIST = 9;
+    private static final byte MAP = 10;
+
+    private ConfigSnapshotFile() {
+    }
+
+    static void write(Map<String, Object> values, Path path) throws IOException {
+        String[] keys = values.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        int[] offsets = new int[keys.length];
+        int start = HEADER + keys.length * Integer.BYTES;
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(start);
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                for (int i = 0; i < keys.length; i++) {
+                    if (output.size() >= Integer.MAX_VALUE - start) throw new ConfigFileTooLargeException(path);
+                    offsets[i] = start + output.size();
+                    writeString(output, keys[i]);
+                    writeValue(output, values.get(keys[i]));
+                }
+                output.flush();
+
+                ByteBuffer index = ByteBuffer.allocate(start);
+                index.putInt(MAGIC).putInt(VERSION).putInt(keys.length);
+                for (int offset : offsets) index.putInt(offset);
+                index.flip();
+                channel.position(0);
+                while (index.hasRemaining()) channel.write(index);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) output.writeByte(NULL);
+        else if (value instanceof Boolean) output.writeByte((Boolean) value ? TRUE : FALSE);
+        else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            output.writeByte(INT);
+            output.writeInt(((Number) value).intValue());
+        }
+        else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(((Number) value).doubleValue());
+        }
+        else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeString(output, value.toString());
+        }
+        else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            writeString(output, value.toString());
+        }
+        else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+            for (Object element : list) writeValue(output, element);
+        }
+        else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(output, String.valueOf(entry.getKey()));
+                writeValue(output, entry.getValue());
+            }
+        }
+        else {
+            output.writeByte(STRING);
+            writeString(output, value.toString());
+        }
+    }
+
+    static ConfigSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new ConfigFileTooLargeException(path);
+            if (size < HEADER) throw new ConfigFileSnapshotParseException(path, "Not a config snapshot");
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) throw new ConfigFileSnapshotParseException(path, "Not a config snapshot");
+            if (buffer.getInt(4) != VERSION) throw new ConfigFileSnapshotParseException(path, "Unsupported snapshot version " + buffer.getInt(4));
+            int count = buffer.getInt(8);
+            if (count < 0 || HEADER + (long) count * Integer.BYTES > size) throw new ConfigFileSnapshotParseException(path, "Truncated config snapshot");
+            return new ConfigSnapshot(new MappedValues(buffer, count), Map.of());
+        }
+    }
+
+    static final class MappedValues extends ConfigValues {
+
+        private static final int PAGE = 1024;
+        private static final int LOOKUPS = 1 << 16;
+        private static final Object MISSING = new Object();
+
+        private final ByteBuffer buffer;
+        private final int count;
+        private final AtomicReferenceArray<AtomicReferenceArray<Object>> keys;
+        private final AtomicReferenceArray<AtomicReferenceArray<Object>> values;
+        private final ConcurrentMap<String, Integer> lookups = new ConcurrentHashMap<>();
+
+        MappedValues(ByteBuffer buffer, int count) {
+            this.buffer = buffer;
+            this.count = count;
+            int pages = (count + PAGE - 1) / PAGE;
+            this.keys = new AtomicReferenceArray<>(pages);
+            this.values = new AtomicReferenceArray<>(pages);
+        }
+
+        private static AtomicReferenceArray<Object> page(AtomicReferenceArray<AtomicReferenceArray<Object>> pages, int index) {
+            AtomicReferenceArray<Object> page = pages.get(index / PAGE);
+            if (page == null) {
+                pages.compareAndSet(index / PAGE, null, new AtomicReferenceArray<>(PAGE));
+                page = pages.get(index / PAGE);
+            }
+            return page;
+        }
+
+        private int offset(int index) {
+            return this.buffer.getInt(HEADER + index * Integer.BYTES);
+        }
+
+        @Override
+        String key(int index) {
+            if (index >= ELEMENTS) return elementKey(index);
+            AtomicReferenceArray<Object> page = page(this.keys, index);
+            Object key = page.get(index % PAGE);
+            if (key == null) {
+                ByteBuffer buffer = this.buffer.duplicate();
+                buffer.position(offset(index));
+                key = readString(buffer);
+                page.lazySet(index % PAGE, key);
+            }
+            return (String) key;
+        }
+
+        @Override
+        Object value(int index) {
+            if (index >= ELEMENTS) return elementValue(index);
+            AtomicReferenceArray<Object> page = page(this.values, index);
+            Object value = page.get(index % PAGE);
+            if (value == null) {
+                ByteBuffer buffer = this.buffer.duplicate();
+                int offset = offset(index);
+                buffer.position(offset + Integer.BYTES + buffer.getInt(offset));
+                value = readValue(buffer);
+                page.lazySet(index % PAGE, value == null ? MISSING : value);
+                return value;
+            }
+            return value == MISSING ? null : value;
+        }
+
+        @Override
+        boolean sorted() {
+            return true;
+        }
+
+        @Override
+        int slot(String tree) {
+            Integer cached = this.lookups.get(tree);
+            if (cached != null) return cached;
+            int index = search(tree);
+            if (index < 0) index = element(tree);
+            if (this.lookups.size() < LOOKUPS) this.lookups.putIfAbsent(tree, index);
+            return index;
+        }
+
+        private int search(String tree) {
+            int low = 0;
+            int high = this.count - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int compare = key(middle).compareTo(tree);
+                if (compare < 0) low = middle + 1;
+                else if (compare > 0) high = middle - 1;
+                else return middle;
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return this.count;
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static Object readValue(ByteBuffer buffer) {
+            byte tag = buffer.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case INT:
+                    return buffer.getInt();
+                case LONG:
+                    return buffer.getLong();
+                case DOUBLE:
+                    return buffer.getDouble();
+                case STRING:
+                    return readString(buffer);
+                case BIG_INTEGER:
+                    return new BigInteger(readString(buffer));
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString(buffer));
+                case LIST:
+                    int size = buffer.getInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) list.add(readValue(buffer));
+                    return new ConfigArray(list);
+                case MAP:
+                    int entries = buffer.getInt();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < entries; i++) map.put(readString(buffer), readValue(buffer));
+                    return Collections.unmodifiableMap(map);
+                default:
+                    throw new IllegalStateException("Unknown snapshot value tag " + tag);
+            }
+        }
+
+    }
+
+}
@@ -1,7 +1,17 @@
 package com.dwilliam.config;
 
+import java.util.Locale;
+
 public enum ConfigType {
 
-    JSON, XML, YAML
+    JSON, XML, YAML, SNAPSHOT;
+
+    public static ConfigType of(String path) {
+        String name = path.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) return YAML;
+        if (name.endsWith(".xml")) return XML;
+        if (name.endsWith(".snapshot")) return SNAPSHOT;
+        return JSON;
+    }
 
 }
@@ -0,0 +1,119 @@
+package com.dwilliam.config;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+final class ConfigUnits {
+
+    private ConfigUnits() {
+    }
+
+    static Duration duration(String value) {
+        String text = value.trim();
+        if (text.startsWith("P") || text.startsWith("p") || text.startsWith("-P")) {
+            try {
+                return Duration.parse(text);
+            }
+            catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("not a duration : " + value);
+            }
+        }
+        int split = unit(text);
+        BigDecimal amount = amount(text, split, "duration", value);
+        long nanos;
+        switch (text.substring(split).trim().toLowerCase(Locale.ROOT)) {
+            case "ns":
+                nanos = 1L;
+            break;
+            case "us":
+                nanos = 1_000L;
+            break;
+            case "":
+            case "ms":
+                nanos = 1_000_000L;
+            break;
+            case "s":
+                nanos = 1_000_000_000L;
+            break;
+            case "m":
+            case "min":
+                nanos = 60_000_000_000L;
+            break;
+            case "h":
+                nanos = 3_600_000_000_000L;
+            break;
+            case "d":
+                nanos = 86_400_000_000_000L;
+            break;
+            default:
+                throw new IllegalArgumentException("unknown duration unit : " + value);
+        }
+        try {
+            return Duration.ofNanos(amount.multiply(BigDecimal.valueOf(nanos)).setScale(0, RoundingMode.HALF_UP).longValueExact());
+        }
+        catch (ArithmeticException e) {
+            throw new IllegalArgumentException("duration out of range : " + value);
+        }
+    }
+
+    static long bytes(String value) {
+        String text = value.trim();
+        int split = unit(text);
+        BigDecimal amount = amount(text, split, "size", value);
+        if (amount.signum() < 0) throw new IllegalArgumentException("negative size : " + value);
+        long unit;
+        switch (text.substring(split).trim().toLowerCase(Locale.ROOT)) {
+            case "":
+            case "b":
+                unit = 1L;
+            break;
+            case "k":
+            case "kb":
+            case "kib":
+                unit = 1L << 10;
+            break;
+            case "m":
+            case "mb":
+            case "mib":
+                unit = 1L << 20;
+            break;
+            case "g":
+            case "gb":
+            case "gib":
+                unit = 1L << 30;
+            break;
+            case "t":
+            case "tb":
+            case "tib":
+                unit = 1L << 40;
+            break;
+            default:
+                throw new IllegalArgumentException("unknown size unit : " + value);
+        }
+        try {
+            return amount.multiply(BigDecimal.valueOf(unit)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+        catch (ArithmeticException e) {
+            throw new IllegalArgumentException("size out of range : " + value);
+        }
+    }
+
+    private static int unit(String text) {
+        int index = 0;
+        while (index < text.length() && (Character.isDigit(text.charAt(index)) || "+-.".indexOf(text.charAt(index)) >= 0)) index++;
+        return index;
+    }
+
+    private static BigDecimal amount(String text, int split, String kind, String value) {
+        try {
+            return new BigDecimal(text.substring(0, split));
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a " + kind + " : " + value);
+        }
+    }
+
+}
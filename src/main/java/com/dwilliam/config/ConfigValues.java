@@ -0,0 +1,299 @@
+package com.dwilliam.config;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+abstract class ConfigValues extends AbstractMap<String, Object> {
+
+    static final int ELEMENTS = 1 << 30;
+
+    private static final class Elements {
+
+        private final Map<Integer, Integer> bases = new ConcurrentHashMap<>();
+        private volatile int[] arrays = new int[4];
+        private volatile int[] starts = new int[4];
+        private volatile int count;
+        private int next;
+
+        int base(int array, int size) {
+            Integer base = this.bases.get(array);
+            return base != null ? base : register(array, size);
+        }
+
+        private synchronized int register(int array, int size) {
+            Integer base = this.bases.get(array);
+            if (base != null) return base;
+            if (this.next > Integer.MAX_VALUE - ELEMENTS - size) return -1;
+            int count = this.count;
+            if (count == this.arrays.length) {
+                this.arrays = Arrays.copyOf(this.arrays, count * 2);
+                this.starts = Arrays.copyOf(this.starts, count * 2);
+            }
+            this.arrays[count] = array;
+            this.starts[count] = this.next;
+            this.count = count + 1;
+            this.bases.put(array, this.next);
+            this.next += size;
+            return this.starts[count];
+        }
+
+        int position(int slot) {
+            int offset = slot - ELEMENTS;
+            int high = this.count - 1;
+            int[] starts = this.starts;
+            int low = 0;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (starts[middle] <= offset) low = middle;
+                else high = middle - 1;
+            }
+            return low;
+        }
+
+    }
+
+    private volatile int[] order;
+    private volatile Elements elements;
+    ConfigMetrics metrics;
+
+    abstract int slot(String tree);
+
+    abstract String key(int slot);
+
+    abstract Object value(int slot);
+
+    boolean isNull(int slot) {
+        return slot < 0 || value(slot) == null;
+    }
+
+    int element(String tree) {
+        int last = tree.length() - 1;
+        if (last < 0 || tree.charAt(last) != ']') return -1;
+        int open = tree.lastIndexOf('[', last);
+        if (open <= 0 || open == last - 1 || last - open > 10) return -1;
+        long index = 0;
+        for (int i = open + 1; i < last; i++) {
+            char c = tree.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            index = index * 10 + c - '0';
+        }
+        int array = slot(tree.substring(0, open));
+        if (array < 0) return -1;
+        Object value = value(array);
+        if (!(value instanceof ConfigArray) || index >= ((ConfigArray) value).size()) return -1;
+        Elements elements = this.elements;
+        if (elements == null) {
+            synchronized (this) {
+                elements = this.elements;
+                if (elements == null) this.elements = elements = new Elements();
+            }
+        }
+        int base = elements.base(array, ((ConfigArray) value).size());
+        return base < 0 ? -1 : ELEMENTS + base + (int) index;
+    }
+
+    int arraySlot(int slot) {
+        Elements elements = this.elements;
+        return elements.arrays[elements.position(slot)];
+    }
+
+    String elementKey(int slot) {
+        Elements elements = this.elements;
+        int position = elements.position(slot);
+        return key(elements.arrays[position]) + "[" + (slot - ELEMENTS - elements.starts[position]) + "]";
+    }
+
+    Object elementValue(int slot) {
+        Elements elements = this.elements;
+        int position = elements.position(slot);
+        return ((ConfigArray) value(elements.arrays[position])).get(slot - ELEMENTS - elements.starts[position]);
+    }
+
+    int intValue(int slot) {
+        return number(slot).intValue();
+    }
+
+    long longValue(int slot) {
+        return number(slot).longValue();
+    }
+
+    double doubleValue(int slot) {
+        return number(slot).doubleValue();
+    }
+
+    boolean booleanValue(int slot) {
+        Object value = value(slot);
+        if (value instanceof Boolean) return (Boolean) value;
+        throw cannotCast(slot, "Boolean");
+    }
+
+    Number number(int slot) {
+        Object value = value(slot);
+        if (value instanceof Number) return (Number) value;
+        throw cannotCast(slot, "Number");
+    }
+
+    ClassCastException cannotCast(int slot, String type) {
+        ConfigMetrics metrics = this.metrics;
+        if (metrics != null) metrics.conversionFailure();
+        return new ClassCastException("Cannot cast " + key(slot) + " value to " + type);
+    }
+
+    BigDecimal bigDecimalValue(int slot) {
+        Number number = number(slot);
+        if (number instanceof BigDecimal) return (BigDecimal) number;
+        if (number instanceof BigInteger) return new BigDecimal((BigInteger) number);
+        if (number instanceof Double || number instanceof Float) return BigDecimal.valueOf(number.doubleValue());
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    BigInteger bigIntegerValue(int slot) {
+        Number number = number(slot);
+        if (number instanceof BigInteger) return (BigInteger) number;
+        if (number instanceof BigDecimal) return ((BigDecimal) number).toBigInteger();
+        if (number instanceof Double || number instanceof Float) return BigDecimal.valueOf(number.doubleValue()).toBigInteger();
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    int slotAt(int position) {
+        return position;
+    }
+
+    boolean sorted() {
+        return false;
+    }
+
+    int sortedSlot(int position) {
+        if (sorted()) return slotAt(position);
+        int[] order = this.order;
+        if (order == null) {
+            Integer[] slots = new Integer[size()];
+            String[] keys = new String[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = i;
+                keys[i] = key(slotAt(i));
+            }
+            Arrays.sort(slots, Comparator.comparing(i -> keys[i]));
+            order = new int[slots.length];
+            for (int i = 0; i < order.length; i++) order[i] = slotAt(slots[i]);
+            this.order = order;
+        }
+        return order[position];
+    }
+
+    int lowerBound(String tree) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (key(sortedSlot(middle)).compareTo(tree) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    List<String> keysUnder(String prefix) {
+        if (prefix.isEmpty()) return range(0, size());
+        return range(lowerBound(prefix + "."), lowerBound(prefix + "/"));
+    }
+
+    private List<String> range(int from, int to) {
+        return new AbstractList<>() {
+
+            @Override
+            public String get(int index) {
+                Objects.checkIndex(index, size());
+                return key(sortedSlot(from + index));
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+
+        };
+    }
+
+    ConfigValues subtree(String prefix) {
+        if (prefix.isEmpty()) return this;
+        return new SubtreeValues(this, prefix, lowerBound(prefix + "."), lowerBound(prefix + "/"));
+    }
+
+    ConfigMemoryStats memoryStats() {
+        long keyBytes = 0;
+        long valueBytes = 0;
+        int size = 0;
+        for (Entry<String, Object> entry : entrySet()) {
+            keyBytes += ConfigMemoryStats.stringBytes(entry.getKey()) + 4;
+            valueBytes += valueBytes(entry.getValue()) + 4;
+            size++;
+        }
+        return new ConfigMemoryStats(size, 0, keyBytes, keyBytes, valueBytes, 0);
+    }
+
+    static long valueBytes(Object value) {
+        if (value == null || value instanceof Boolean) return 0;
+        if (value instanceof String) return ConfigMemoryStats.stringBytes((String) value);
+        if (value instanceof Integer || value instanceof Double || value instanceof Long) return 16 + 8;
+        if (value instanceof ConfigArray) return ((ConfigArray) value).valueBytes();
+        return 48;
+    }
+
+    @Override
+    public Object get(Object tree) {
+        if (!(tree instanceof String)) return null;
+        int slot = slot((String) tree);
+        return slot < 0 ? null : value(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object tree) {
+        return tree instanceof String && slot((String) tree) >= 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.position < size();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int slot = slotAt(this.position++);
+                        return new SimpleImmutableEntry<>(key(slot), value(slot));
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return ConfigValues.this.size();
+            }
+
+        };
+    }
+
+}
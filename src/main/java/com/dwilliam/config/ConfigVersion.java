@@ -0,0 +1,39 @@
+package com.dwilliam.config;
+
+import java.nio.file.Path;
+
+public final class ConfigVersion extends ConfigView {
+
+    private final Config source;
+    private final long version;
+    private final long base;
+
+    ConfigVersion(Config source, ConfigSnapshot snapshot, long version, long base) {
+        this.snapshot = snapshot;
+        this.source = source;
+        this.version = version;
+        this.base = base;
+    }
+
+    public Config source() {
+        return this.source;
+    }
+
+    @Override
+    public long version() {
+        return this.version;
+    }
+
+    long base() {
+        return this.base;
+    }
+
+    public Path path() {
+        return this.source.path();
+    }
+
+    public ConfigType type() {
+        return this.source.type();
+    }
+
+}
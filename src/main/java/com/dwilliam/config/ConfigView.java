@@ -0,0 +1,348 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public abstract class ConfigView {
+
+    volatile ConfigSnapshot snapshot;
+    ConfigMetrics metrics;
+
+    ConfigView() {
+    }
+
+    public abstract long version();
+
+    private int slot(ConfigValues values, String tree) {
+        int slot = values.slot(tree);
+        if (Configs.METRICS && this.metrics != null) this.metrics.read(values, slot);
+        return slot;
+    }
+
+    public void writeSnapshot(Path path) {
+        Objects.requireNonNull(path, "path is null");
+        try {
+            ConfigSnapshotFile.write(this.snapshot.values, path);
+        }
+        catch (IOException e) {
+            throw new ConfigFileException(path, e.getMessage());
+        }
+    }
+
+    public <T> T bind(String tree, Class<T> type) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(type, "type is null");
+        return this.snapshot.bind(tree, type);
+    }
+
+    public ConfigMemoryStats memoryStats() {
+        return this.snapshot.values.memoryStats();
+    }
+
+    public List<String> keysUnder(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+        return this.snapshot.values.keysUnder(prefix);
+    }
+
+    public int size() {
+        return this.snapshot.values.size();
+    }
+
+    public boolean isEmpty() {
+        return this.snapshot.values.isEmpty();
+    }
+
+    public boolean containsKey(String tree) {
+        return this.snapshot.values.containsKey(tree);
+    }
+
+    public boolean containsValue(Object object) {
+        return this.snapshot.values.containsValue(object);
+    }
+
+    public <T> T get(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return slot < 0 ? null : (T) values.value(slot);
+    }
+
+    public <T> T getOrElse(String tree, T elseValue) {
+        T value = get(tree);
+        return value == null ? elseValue : value;
+    }
+
+    public Number getNumber(String tree) {
+        return get(tree);
+    }
+
+    public Number getNumberOrElse(String tree, Number elseValue) {
+        return getOrElse(tree, elseValue);
+    }
+
+    public String getString(String tree) {
+        return get(tree);
+    }
+
+    public String getStringOrElse(String tree, String elseValue) {
+        return getOrElse(tree, elseValue);
+    }
+
+    public ConfigArray getArray(String tree) {
+        return get(tree);
+    }
+
+    public int[] getIntArray(String tree) {
+        ConfigArray array = getArray(tree);
+        return array == null ? null : array.toIntArray();
+    }
+
+    public long[] getLongArray(String tree) {
+        ConfigArray array = getArray(tree);
+        return array == null ? null : array.toLongArray();
+    }
+
+    public double[] getDoubleArray(String tree) {
+        ConfigArray array = getArray(tree);
+        return array == null ? null : array.toDoubleArray();
+    }
+
+    public List<String> getStringList(String tree) {
+        ConfigArray array = getArray(tree);
+        return array == null ? null : array.toStringList();
+    }
+
+    public Boolean getBoolean(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : values.booleanValue(slot);
+    }
+
+    public Boolean getBooleanOrElse(String tree, Boolean elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.booleanValue(slot);
+    }
+
+    public Character getCharacter(String tree) {
+        Object value = get(tree);
+        if (value == null || value instanceof Character) return (Character) value;
+        if (!(value instanceof String)) throw conversionFailure("Cannot cast " + tree + " value to Character");
+        if (((String) value).length() != 1) throw conversionFailure("Cannot cast string of length != 1 to Character");
+        return ((String) value).charAt(0);
+    }
+
+    private ClassCastException conversionFailure(String message) {
+        return conversionFailure(new ClassCastException(message));
+    }
+
+    private ClassCastException conversionFailure(ClassCastException error) {
+        if (Configs.METRICS && this.metrics != null) this.metrics.conversionFailure();
+        return error;
+    }
+
+    public Character getCharacterOrElse(String tree, Character elseValue) {
+        Character value = getCharacter(tree);
+        return value == null ? elseValue : value;
+    }
+
+    public char getChar(String tree, char elseValue) {
+        Character value = getCharacter(tree);
+        return value == null ? elseValue : value;
+    }
+
+    public boolean getBoolean(String tree, boolean elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.booleanValue(slot);
+    }
+
+    public int getInt(String tree, int elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.intValue(slot);
+    }
+
+    public long getLong(String tree, long elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.longValue(slot);
+    }
+
+    public double getDouble(String tree, double elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.doubleValue(slot);
+    }
+
+    public Integer getInteger(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : values.intValue(slot);
+    }
+
+    public Integer getIntegerOrElse(String tree, Integer elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.intValue(slot);
+    }
+
+    public Long getLong(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : values.longValue(slot);
+    }
+
+    public Long getLongOrElse(String tree, Long elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.longValue(slot);
+    }
+
+    public Float getFloat(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : (float) values.doubleValue(slot);
+    }
+
+    public Float getFloatOrElse(String tree, Float elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : (float) values.doubleValue(slot);
+    }
+
+    public Double getDouble(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : values.doubleValue(slot);
+    }
+
+    public Double getDoubleOrElse(String tree, Double elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : values.doubleValue(slot);
+    }
+
+    public Byte getByte(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : (byte) values.intValue(slot);
+    }
+
+    public Byte getByteOrElse(String tree, Byte elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : (byte) values.intValue(slot);
+    }
+
+    public Short getShort(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : (short) values.intValue(slot);
+    }
+
+    public Short getShortOrElse(String tree, Short elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : (short) values.intValue(slot);
+    }
+
+    public BigDecimal getBigDecimal(String tree) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        return snapshot.bigDecimal(tree);
+    }
+
+    public BigDecimal getBigDecimalOrElse(String tree, BigDecimal elseValue) {
+        BigDecimal value = getBigDecimal(tree);
+        return value == null ? elseValue : value;
+    }
+
+    public BigInteger getBigInteger(String tree) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        return snapshot.bigInteger(tree);
+    }
+
+    public BigInteger getBigIntegerOrElse(String tree, BigInteger elseValue) {
+        BigInteger value = getBigInteger(tree);
+        return value == null ? elseValue : value;
+    }
+
+    public AtomicInteger getAtomicInteger(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : new AtomicInteger(values.intValue(slot));
+    }
+
+    public AtomicInteger getAtomicIntegerOrElse(String tree, AtomicInteger elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : new AtomicInteger(values.intValue(slot));
+    }
+
+    public AtomicLong getAtomicLong(String tree) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? null : new AtomicLong(values.longValue(slot));
+    }
+
+    public AtomicLong getAtomicLongOrElse(String tree, AtomicLong elseValue) {
+        ConfigValues values = this.snapshot.values;
+        int slot = slot(values, tree);
+        return values.isNull(slot) ? elseValue : new AtomicLong(values.longValue(slot));
+    }
+
+    public Duration getDuration(String tree) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        return (Duration) parsed(snapshot.duration(tree));
+    }
+
+    public Duration getDurationOrElse(String tree, Duration elseValue) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        Object value = snapshot.duration(tree);
+        return value instanceof Duration ? (Duration) value : elseValue;
+    }
+
+    public Long getBytes(String tree) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        return (Long) parsed(snapshot.bytes(tree));
+    }
+
+    public long getBytes(String tree, long elseValue) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        Object value = snapshot.bytes(tree);
+        return value instanceof Long ? (Long) value : elseValue;
+    }
+
+    public <E extends Enum<E>> E getEnumValue(String tree, Class<E> type) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        return type.cast(parsed(snapshot.enumValue(tree, type)));
+    }
+
+    public <E extends Enum<E>> E getEnumValue(String tree, E elseValue, Class<E> type) {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (Configs.METRICS) slot(snapshot.values, tree);
+        Object value = snapshot.enumValue(tree, type);
+        return type.isInstance(value) ? type.cast(value) : elseValue;
+    }
+
+    private Object parsed(Object value) {
+        if (value instanceof ConfigSnapshot.Invalid) throw conversionFailure(((ConfigSnapshot.Invalid) value).error);
+        return value == ConfigSnapshot.ABSENT ? null : value;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+final class ConfigWatcher implements Closeable {
+
+    static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private final Config config;
+    private final Path file;
+    private final long debounce;
+    private final WatchService service;
+    private final Thread thread;
+
+    ConfigWatcher(Config config, Duration debounce) {
+        Path path = config.path().toAbsolutePath();
+        this.config = config;
+        this.file = path.getFileName();
+        this.debounce = debounce.toMillis();
+        try {
+            this.service = path.getFileSystem().newWatchService();
+            path.getParent().register(this.service, ENTRY_CREATE, ENTRY_MODIFY);
+        }
+        catch (IOException e) {
+            throw new ConfigFileException(path, e.getMessage());
+        }
+        this.thread = new Thread(this::run, "config-watcher-" + this.file);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!changed(this.service.take())) continue;
+                WatchKey key;
+                while ((key = this.service.poll(this.debounce, TimeUnit.MILLISECONDS)) != null) changed(key);
+                try {
+                    this.config.reload();
+                }
+                catch (RuntimeException e) {
+                    Configs.reporter().error(this.config.path(), "reload failed, keeping previous values", e);
+                }
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean changed(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || this.file.equals(event.context())) changed = true;
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.service.close();
+        }
+        catch (IOException ignored) {
+        }
+        this.thread.interrupt();
+    }
+
+}
@@ -1,60 +1,86 @@
 package com.dwilliam.config;
 
 import com.dwilliam.config.exception.NoSuchConfigValueException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.dwilliam.config.exception.ConfigInitException;
 import com.dwilliam.config.exception.NoSuchConfigException;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Configs {
 
     static final ObjectMapper MAPPER = new ObjectMapper();
-    static final TypeReference<HashMap<String, Object>> TYPE_REFERENCE = new TypeReference<>() {};
-    static final Map<String, Config> CONFIGS = new HashMap<>();
+    static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    static final ObjectMapper XML_MAPPER = new XmlMapper();
+    static final AtomicReference<ConfigRegistry> CONFIGS = new AtomicReference<>(ConfigRegistry.EMPTY);
 
+    static final String ENV_CONFIG_PREFIX = "APP_CONFIG_";
     static final String ENV_CONFIG_PATH = "APP_CONFIG_PATH";
     static final String ENV_CONFIG_TYPE = "APP_CONFIG_TYPE";
     static final String ENV_CONFIG_LOG = "APP_CONFIG_LOG";
+    static final String ENV_CONFIG_METRICS = "APP_CONFIG_METRICS";
 
+    static final String PROP_CONFIG_PREFIX = "app-config-";
     static final String PROP_CONFIG_PATH = "app-config-path";
     static final String PROP_CONFIG_TYPE = "app-config-type";
     static final String PROP_CONFIG_LOG = "app-config-log";
+    static final String PROP_CONFIG_METRICS = "app-config-metrics";
+
+    static final boolean METRICS = Boolean.parseBoolean(defaultConfigVar(PROP_CONFIG_METRICS, ENV_CONFIG_METRICS, "false"));
+
+    private static volatile ConfigReporter reporter = ConfigReporter.async(ConfigReporter.console());
+    private static volatile ConfigOverrides overrides = ConfigOverrides.NONE;
 
     static {
         init();
     }
 
     public static Config init() {
-        return init(defaultConfigFile(), defaultConfigType(), defaultConfigLog());
+        String file = defaultConfigFile();
+        return initDefault(file, defaultConfigType(file), defaultConfigLog());
     }
 
     public static Config init(String path) {
-        return init(path, defaultConfigType(), defaultConfigLog());
+        return init(path, defaultConfigType(path), defaultConfigLog());
     }
 
     public static Config init(File file) {
-        return init(file, defaultConfigType(), defaultConfigLog());
+        return init(file, defaultConfigType(file), defaultConfigLog());
     }
 
     public static Config init(Path path) {
-        return init(path, defaultConfigType(), defaultConfigLog());
+        return init(path, defaultConfigType(path), defaultConfigLog());
     }
 
     public static Config init(ConfigType type) {
-        return init(defaultConfigFile(), type, defaultConfigLog());
+        return initDefault(defaultConfigFile(), type, defaultConfigLog());
     }
 
     public static Config init(boolean log) {
-        return init(defaultConfigFile(), defaultConfigType(), log);
+        String file = defaultConfigFile();
+        return initDefault(file, defaultConfigType(file), log);
     }
 
     public static Config init(String path, ConfigType type) {
@@ -70,19 +96,19 @@ public class Configs {
     }
 
     public static Config init(String path, boolean log) {
-        return init(path, defaultConfigType(), log);
+        return init(path, defaultConfigType(path), log);
     }
 
     public static Config init(File file, boolean log) {
-        return init(file, defaultConfigType(), log);
+        return init(file, defaultConfigType(file), log);
     }
 
     public static Config init(Path path, boolean log) {
-        return init(path, defaultConfigType(), log);
+        return init(path, defaultConfigType(path), log);
     }
 
     public static Config init(ConfigType type, boolean log) {
-        return init(defaultConfigFile(), type, log);
+        return initDefault(defaultConfigFile(), type, log);
     }
 
     public static Config init(String path, ConfigType type, boolean log) {
@@ -98,6 +124,93 @@ public class Configs {
         return new Config(path, type, log);
     }
 
+    private static Config initDefault(String file, ConfigType type, boolean log) {
+        Config config = init(file, type, log);
+        String name = configName(file);
+        CONFIGS.updateAndGet(registry -> registry.withDefault(name));
+        return config;
+    }
+
+    public static Config init(Path path, ConfigSchema schema) {
+        return init(path, defaultConfigType(path), defaultConfigLog(), schema);
+    }
+
+    public static Config init(Path path, ConfigType type, boolean log, ConfigSchema schema) {
+        return new Config(path, type, log, schema);
+    }
+
+    public static List<Config> initAll(Collection<Path> paths) {
+        return initAll(paths, ForkJoinPool.commonPool());
+    }
+
+    public static List<Config> initAll(Collection<Path> paths, Executor executor) {
+        Objects.requireNonNull(paths, "paths is null");
+        Objects.requireNonNull(executor, "executor is null");
+        boolean log = defaultConfigLog();
+        List<CompletableFuture<Config>> loads = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            Objects.requireNonNull(path, "path is null");
+            loads.add(CompletableFuture.supplyAsync(() -> new Config(path, defaultConfigType(path), log, false, false, null), executor));
+        }
+
+        List<Config> configs = new ArrayList<>(loads.size());
+        List<RuntimeException> errors = new ArrayList<>();
+        for (CompletableFuture<Config> load : loads) {
+            try {
+                configs.add(load.join());
+            }
+            catch (CompletionException e) {
+                errors.add(e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e);
+            }
+        }
+        if (!errors.isEmpty()) throw new ConfigInitException(errors);
+
+        List<String> names = new ArrayList<>(configs.size());
+        for (Config config : configs) names.add(configName(config.path().toString()));
+        CONFIGS.updateAndGet(registry -> registry.withAll(names, configs));
+        if (METRICS) {
+            for (int i = 0; i < names.size(); i++) registerMetrics(names.get(i), configs.get(i));
+        }
+        return Collections.unmodifiableList(configs);
+    }
+
+    static String configName(String path) {
+        return path.substring(0, path.lastIndexOf('.'));
+    }
+
+    static void register(String name, Config config) {
+        CONFIGS.updateAndGet(registry -> registry.with(name, config));
+        if (METRICS) registerMetrics(name, config);
+    }
+
+    private static void registerMetrics(String name, Config config) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("com.dwilliam.config:type=ConfigMetrics,name=" + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+            server.registerMBean(config.metrics(), objectName);
+        }
+        catch (JMException e) {
+            reporter.error(config.path(), "cannot register metrics for " + name, new IllegalStateException(e.getMessage(), e));
+        }
+    }
+
+    public static ConfigReporter reporter() {
+        return reporter;
+    }
+
+    public static void setReporter(ConfigReporter reporter) {
+        Configs.reporter = Objects.requireNonNull(reporter, "reporter is null");
+    }
+
+    public static ConfigOverrides overrides() {
+        return overrides;
+    }
+
+    public static void setOverrides(ConfigOverrides overrides) {
+        Configs.overrides = Objects.requireNonNull(overrides, "overrides is null");
+    }
+
     static String defaultConfigVar(String propertyName, String environmentName, String defaultValue) {
         String property = System.getProperty(propertyName);
         if (property != null) return property;
@@ -112,9 +225,18 @@ public class Configs {
         return defaultConfigVar(PROP_CONFIG_PATH, ENV_CONFIG_PATH, "application.conf");
     }
 
-    static ConfigType defaultConfigType() {
+    static ConfigType defaultConfigType(String path) {
         String type = defaultConfigVar(PROP_CONFIG_TYPE, ENV_CONFIG_TYPE, null);
-        return type == null ? ConfigType.JSON : ConfigType.valueOf(type);
+        if (type != null) return ConfigType.valueOf(type);
+        return path == null ? ConfigType.JSON : ConfigType.of(path);
+    }
+
+    static ConfigType defaultConfigType(File file) {
+        return defaultConfigType(file == null ? null : file.getPath());
+    }
+
+    static ConfigType defaultConfigType(Path path) {
+        return defaultConfigType(path == null ? null : path.toString());
     }
 
     static boolean defaultConfigLog() {
@@ -122,8 +244,14 @@ public class Configs {
         return bool == null || Boolean.parseBoolean(bool);
     }
 
+    public static Config of() {
+        Config config = CONFIGS.get().defaultConfig();
+        if (config == null) throw new NoSuchConfigException();
+        return config;
+    }
+
     public static Config of(String name) {
-        Config config = CONFIGS.get(name);
+        Config config = CONFIGS.get().get(name);
         if (config == null) throw new NoSuchConfigException();
         return config;
     }
@@ -131,7 +259,7 @@ public class Configs {
     @SuppressWarnings("unchecked")
     public static <T> T get(String config, String tree) {
         try {
-            return (T) CONFIGS.get(config).get(tree);
+            return (T) CONFIGS.get().get(config).get(tree);
         }
         catch (NullPointerException e) {
             throw new NoSuchConfigException();
@@ -139,8 +267,7 @@ public class Configs {
     }
 
     public static <T> T get(String tree) {
-        String config = defaultConfigFile();
-        return (T) get(config.substring(0, config.lastIndexOf(".")), tree);
+        return of().get(tree);
     }
 
     public static <T> T getOrElse(String tree, T elseValue) {
@@ -164,27 +291,46 @@ public class Configs {
         return getOrElse(tree, elseValue);
     }
 
+    public static <T> T bind(String tree, Class<T> type) {
+        return of().bind(tree, type);
+    }
+
+    public static ConfigArray getArray(String tree) {
+        return of().getArray(tree);
+    }
+
+    public static int[] getIntArray(String tree) {
+        return of().getIntArray(tree);
+    }
+
+    public static long[] getLongArray(String tree) {
+        return of().getLongArray(tree);
+    }
+
+    public static double[] getDoubleArray(String tree) {
+        return of().getDoubleArray(tree);
+    }
+
+    public static List<String> getStringList(String tree) {
+        return of().getStringList(tree);
+    }
+
     public static boolean getBoolean(String tree) {
         return get(tree);
     }
 
     public static boolean getBooleanOrElse(String tree, boolean elseValue) {
-        return getOrElse(tree, elseValue);
+        return of().getBoolean(tree, elseValue);
     }
 
     public static char getCharacter(String tree) {
-        String config = defaultConfigFile();
-        try {
-            return CONFIGS.get(config.substring(0, config.lastIndexOf("."))).getCharacter(tree);
-        }
-        catch (NullPointerException e) {
-            throw new NoSuchConfigException();
-        }
+        Character value = of().getCharacter(tree);
+        if (value == null) throw new NoSuchConfigValueException(tree);
+        return value;
     }
 
     public static char getCharacterOrElse(String tree, char elseValue) {
-        Character value = getCharacter(tree);
-        return value == null ? elseValue : value;
+        return of().getChar(tree, elseValue);
     }
 
     public static int getInteger(String tree) {
@@ -194,7 +340,7 @@ public class Configs {
     }
 
     public static int getIntegerOrElse(String tree, int elseValue) {
-        return getNumberOrElse(tree, elseValue).intValue();
+        return of().getInt(tree, elseValue);
     }
 
     public static long getLong(String tree) {
@@ -204,7 +350,7 @@ public class Configs {
     }
 
     public static long getLongOrElse(String tree, long elseValue) {
-        return getNumberOrElse(tree, elseValue).longValue();
+        return of().getLong(tree, elseValue);
     }
 
     public static float getFloat(String tree) {
@@ -214,7 +360,8 @@ public class Configs {
     }
 
     public static float getFloatOrElse(String tree, float elseValue) {
-        return getNumberOrElse(tree, elseValue).floatValue();
+        Number number = getNumber(tree);
+        return number == null ? elseValue : number.floatValue();
     }
 
     public static double getDouble(String tree) {
@@ -224,7 +371,7 @@ public class Configs {
     }
 
     public static double getDoubleOrElse(String tree, double elseValue) {
-        return getNumberOrElse(tree, elseValue).doubleValue();
+        return of().getDouble(tree, elseValue);
     }
 
     public static byte getByte(String tree) {
@@ -234,7 +381,8 @@ public class Configs {
     }
 
     public static byte getByteOrElse(String tree, byte elseValue) {
-        return getNumberOrElse(tree, elseValue).byteValue();
+        Number number = getNumber(tree);
+        return number == null ? elseValue : number.byteValue();
     }
 
     public static short getShort(String tree) {
@@ -244,56 +392,86 @@ public class Configs {
     }
 
     public static short getShortOrElse(String tree, short elseValue) {
-        return getNumberOrElse(tree, elseValue).shortValue();
+        Number number = getNumber(tree);
+        return number == null ? elseValue : number.shortValue();
     }
 
     public static BigDecimal getBigDecimal(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : BigDecimal.valueOf(number.doubleValue());
+        return of().getBigDecimal(tree);
     }
 
     public static BigDecimal getBigDecimalOrElse(String tree, BigDecimal elseValue) {
-        return BigDecimal.valueOf(getNumberOrElse(tree, elseValue).doubleValue());
+        return of().getBigDecimalOrElse(tree, elseValue);
     }
 
     public static BigInteger getBigInteger(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : BigInteger.valueOf(number.intValue());
+        return of().getBigInteger(tree);
     }
 
     public static BigInteger getBigIntegerOrElse(String tree, BigInteger elseValue) {
-        return BigInteger.valueOf(getNumberOrElse(tree, elseValue).intValue());
+        return of().getBigIntegerOrElse(tree, elseValue);
     }
 
     public static AtomicInteger getAtomicInteger(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : new AtomicInteger(number.intValue());
+        return of().getAtomicInteger(tree);
     }
 
     public static AtomicInteger getAtomicIntegerOrElse(String tree, AtomicInteger elseValue) {
-        return new AtomicInteger(getNumberOrElse(tree, elseValue).intValue());
+        return of().getAtomicIntegerOrElse(tree, elseValue);
     }
 
     public static AtomicLong getAtomicLong(String tree) {
-        Number number = getNumber(tree);
-        return number == null ? null : new AtomicLong(number.longValue());
+        return of().getAtomicLong(tree);
     }
 
     public static AtomicLong getAtomicLongOrElse(String tree, AtomicLong elseValue) {
-        return new AtomicLong(getNumberOrElse(tree, elseValue).longValue());
+        return of().getAtomicLongOrElse(tree, elseValue);
     }
 
     public static <E extends Enum<E>> E getEnumValue(String tree, Class<E> clazz) {
-        return Enum.valueOf(clazz, getString(tree));
+        return of().getEnumValue(tree, clazz);
     }
 
     public static <E extends Enum<E>> E getEnumValue(String tree, E elseValue, Class<E> clazz) {
-        try {
-            return Enum.valueOf(clazz, getString(tree));
-        }
-        catch (Exception e) {
-            return elseValue;
-        }
+        return of().getEnumValue(tree, elseValue, clazz);
+    }
+
+    public static Duration getDuration(String tree) {
+        return of().getDuration(tree);
+    }
+
+    public static Duration getDurationOrElse(String tree, Duration elseValue) {
+        return of().getDurationOrElse(tree, elseValue);
+    }
+
+    public static long getBytes(String tree) {
+        Long bytes = of().getBytes(tree);
+        if (bytes == null) throw new NoSuchConfigValueException(tree);
+        return bytes;
+    }
+
+    public static long getBytesOrElse(String tree, long elseValue) {
+        return of().getBytes(tree, elseValue);
+    }
+
+    public static <T> ConfigKey<T> key(String tree, Class<T> type) {
+        return of().key(tree, type);
+    }
+
+    public static IntKey intKey(String tree) {
+        return of().intKey(tree);
+    }
+
+    public static LongKey longKey(String tree) {
+        return of().longKey(tree);
+    }
+
+    public static DoubleKey doubleKey(String tree) {
+        return of().doubleKey(tree);
+    }
+
+    public static BooleanKey booleanKey(String tree) {
+        return of().booleanKey(tree);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.dwilliam.config;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class ConsoleReporter implements ConfigReporter {
+
+    static final String REDACTED = "******";
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean values;
+    private final List<Pattern> redactions;
+
+    ConsoleReporter(PrintStream out, PrintStream err, boolean values, List<Pattern> redactions) {
+        this.out = out;
+        this.err = err;
+        this.values = values;
+        this.redactions = List.copyOf(redactions);
+    }
+
+    @Override
+    public void report(ConfigReport report) {
+        StringBuilder builder = new StringBuilder();
+        if (this.values) {
+            for (Map.Entry<String, Object> entry : report.values().entrySet()) {
+                String tree = entry.getKey();
+                builder.append("[CONFIG] : ").append(tree).append(" = ").append(redacted(tree) ? REDACTED : entry.getValue()).append(System.lineSeparator());
+            }
+        }
+        builder.append("[CONFIG] : ").append(report.path()).append(" : ").append(report.size()).append(" values loaded in ")
+               .append(report.duration().toMillis()).append(" ms");
+        this.out.println(builder);
+    }
+
+    @Override
+    public void error(Path path, String message, RuntimeException error) {
+        this.err.println("[CONFIG] : " + path + " : " + message + " : " + error.getMessage());
+    }
+
+    private boolean redacted(String tree) {
+        for (Pattern redaction : this.redactions) {
+            if (redaction.matcher(tree).find()) return true;
+        }
+        return false;
+    }
+
+}
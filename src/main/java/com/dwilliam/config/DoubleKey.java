@@ -0,0 +1,44 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.NoSuchConfigValueException;
+
+import java.util.function.DoubleSupplier;
+
+public final class DoubleKey extends ConfigHandle<DoubleKey.Bound> implements DoubleSupplier {
+
+    static final class Bound extends ConfigHandle.Binding {
+
+        final double value;
+
+        Bound(ConfigValues values, int slot, boolean present, double value) {
+            super(values, slot, present);
+            this.value = value;
+        }
+
+    }
+
+    DoubleKey(Config config, String tree) {
+        super(config, tree);
+        resolve();
+    }
+
+    @Override
+    Bound bind(ConfigValues values) {
+        int slot = values.slot(this.tree);
+        if (values.isNull(slot)) return new Bound(values, slot, false, 0);
+        return new Bound(values, slot, true, values.doubleValue(slot));
+    }
+
+    @Override
+    public double getAsDouble() {
+        Bound binding = binding();
+        if (!binding.present) throw new NoSuchConfigValueException(this.tree);
+        return binding.value;
+    }
+
+    public double getAsDouble(double elseValue) {
+        Bound binding = binding();
+        return binding.present ? binding.value : elseValue;
+    }
+
+}
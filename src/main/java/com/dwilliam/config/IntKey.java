@@ -0,0 +1,44 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.NoSuchConfigValueException;
+
+import java.util.function.IntSupplier;
+
+public final class IntKey extends ConfigHandle<IntKey.Bound> implements IntSupplier {
+
+    static final class Bound extends ConfigHandle.Binding {
+
+        final int value;
+
+        Bound(ConfigValues values, int slot, boolean present, int value) {
+            super(values, slot, present);
+            this.value = value;
+        }
+
+    }
+
+    IntKey(Config config, String tree) {
+        super(config, tree);
+        resolve();
+    }
+
+    @Override
+    Bound bind(ConfigValues values) {
+        int slot = values.slot(this.tree);
+        if (values.isNull(slot)) return new Bound(values, slot, false, 0);
+        return new Bound(values, slot, true, values.intValue(slot));
+    }
+
+    @Override
+    public int getAsInt() {
+        Bound binding = binding();
+        if (!binding.present) throw new NoSuchConfigValueException(this.tree);
+        return binding.value;
+    }
+
+    public int getAsInt(int elseValue) {
+        Bound binding = binding();
+        return binding.present ? binding.value : elseValue;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.dwilliam.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class LayeredConfig extends Config {
+
+    private final List<Config> layers;
+
+    private LayeredConfig(List<Config> layers) {
+        super(merge(layers));
+        this.layers = layers;
+        for (Config layer : layers) layer.addDependent(new ConfigDependent(layer, this));
+    }
+
+    public static LayeredConfig of(Config... layers) {
+        return of(List.of(layers));
+    }
+
+    public static LayeredConfig of(List<Config> layers) {
+        Objects.requireNonNull(layers, "layers is null");
+        if (layers.isEmpty()) throw new IllegalArgumentException("no layers");
+        return new LayeredConfig(List.copyOf(layers));
+    }
+
+    private static ConfigSnapshot merge(List<Config> layers) {
+        TypedValues.Builder values = new TypedValues.Builder();
+        Config[] origins = new Config[16];
+        Set<String> arrays = new HashSet<>();
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            Config layer = layers.get(i);
+            List<String> replaced = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : layer.values().entrySet()) {
+                String tree = entry.getKey();
+                if (values.slot(tree) >= 0 || replaced(arrays, tree)) continue;
+                int slot = values.put(tree, entry.getValue());
+                if (slot >= origins.length) origins = Arrays.copyOf(origins, origins.length * 2);
+                origins[slot] = layer;
+                if (entry.getValue() instanceof ConfigArray) replaced.add(tree);
+            }
+            arrays.addAll(replaced);
+        }
+        return new ConfigSnapshot(values.build(), Map.of(), Arrays.copyOf(origins, values.size()));
+    }
+
+    private static boolean replaced(Set<String> arrays, String tree) {
+        if (arrays.isEmpty()) return false;
+        for (int index = tree.indexOf('['); index > 0; index = tree.indexOf('[', index + 1)) {
+            if (arrays.contains(tree.substring(0, index))) return true;
+        }
+        return false;
+    }
+
+    @Override
+    ConfigSnapshot read() {
+        return merge(this.layers);
+    }
+
+    public List<Config> layers() {
+        return this.layers;
+    }
+
+    public Config origin(String tree) {
+        ConfigSnapshot snapshot = current();
+        int slot = snapshot.values.slot(tree);
+        return slot < 0 ? null : snapshot.origins[slot];
+    }
+
+    @Override
+    public synchronized Config watch(Duration debounce) {
+        for (Config layer : this.layers) layer.watch(debounce);
+        return this;
+    }
+
+    @Override
+    public synchronized void unwatch() {
+        for (Config layer : this.layers) layer.unwatch();
+    }
+
+    @Override
+    public synchronized boolean isWatching() {
+        return this.layers.stream().allMatch(Config::isWatching);
+    }
+
+}
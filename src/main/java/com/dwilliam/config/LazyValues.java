@@ -0,0 +1,255 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileJsonParseException;
+import com.dwilliam.config.exception.ConfigFileTooLargeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class LazyValues extends ConfigValues {
+
+    private static final class Segment {
+
+        final String name;
+        final int start;
+        final int end;
+        volatile ConfigValues values;
+        int base;
+
+        Segment(String name, int start, int end) {
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+
+    }
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final Map<String, Segment> segments;
+    private final boolean dotted;
+    private volatile Segment[] loaded;
+
+    private LazyValues(Path path, ByteBuffer buffer, Map<String, Segment> segments, TypedValues scalars) {
+        this.path = path;
+        this.buffer = buffer;
+        this.segments = segments;
+        this.dotted = segments.keySet().stream().anyMatch(name -> name.indexOf('.') >= 0 || name.indexOf('[') >= 0);
+        Segment root = new Segment(ConfigSnapshot.ROOT, 0, 0);
+        root.values = scalars;
+        this.loaded = new Segment[] {root};
+    }
+
+    static ConfigSnapshot open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new ConfigFileTooLargeException(path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        Map<String, Segment> segments = new HashMap<>();
+        TypedValues.Builder scalars = new TypedValues.Builder();
+        try (JsonParser parser = Configs.MAPPER.createParser(new BufferInput(buffer, 0, buffer.limit()))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new ConfigFileJsonParseException(path, "Not an json object");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    int start = (int) parser.getTokenLocation().getByteOffset();
+                    parser.skipChildren();
+                    segments.put(name, new Segment(name, start, (int) parser.getCurrentLocation().getByteOffset()));
+                }
+                else {
+                    scalars.put(name, ConfigLoader.value(parser, token));
+                }
+            }
+        }
+        return new ConfigSnapshot(new LazyValues(path, buffer, segments, scalars.build()), Map.of());
+    }
+
+    private Segment load(Segment segment) {
+        if (segment.values != null) return segment;
+        synchronized (segment) {
+            if (segment.values != null) return segment;
+            ConfigSnapshot.Builder builder = new ConfigSnapshot.Builder();
+            try (JsonParser parser = Configs.MAPPER.createParser(new BufferInput(this.buffer, segment.start, segment.end))) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    builder.beginObject(segment.name);
+                    ConfigLoader.object(parser, builder);
+                    builder.endObject();
+                }
+                else {
+                    ConfigLoader.array(builder, segment.name, parser.readValueAs(List.class));
+                }
+            }
+            catch (IOException e) {
+                throw new ConfigFileJsonParseException(this.path, e.getMessage());
+            }
+            ConfigValues values = builder.build().values;
+            synchronized (this) {
+                Segment[] loaded = this.loaded;
+                Segment last = loaded[loaded.length - 1];
+                segment.base = last.base + last.values.size();
+                segment.values = values;
+                loaded = Arrays.copyOf(loaded, loaded.length + 1);
+                loaded[loaded.length - 1] = segment;
+                this.loaded = loaded;
+            }
+            return segment;
+        }
+    }
+
+    private void loadAll() {
+        for (Segment segment : this.segments.values()) load(segment);
+    }
+
+    private Segment segment(int slot) {
+        Segment[] loaded = this.loaded;
+        int low = 0;
+        int high = loaded.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (loaded[middle].base <= slot) low = middle;
+            else high = middle - 1;
+        }
+        return loaded[low];
+    }
+
+    @Override
+    int slot(String tree) {
+        int slot = this.loaded[0].values.slot(tree);
+        if (slot >= 0) return slot;
+        Segment segment = segment(tree);
+        if (segment == null) return -1;
+        load(segment);
+        slot = segment.values.slot(tree);
+        if (slot >= ELEMENTS) return element(tree);
+        return slot < 0 ? -1 : segment.base + slot;
+    }
+
+    private Segment segment(String tree) {
+        Segment segment = this.segments.get(tree);
+        if (segment != null) return segment;
+        if (!this.dotted) {
+            for (int i = 0; i < tree.length(); i++) {
+                char c = tree.charAt(i);
+                if (c == '.' || c == '[') return this.segments.get(tree.substring(0, i));
+            }
+            return null;
+        }
+        for (int i = tree.length() - 1; segment == null && i > 0; i--) {
+            char c = tree.charAt(i);
+            if (c == '.' || c == '[') segment = this.segments.get(tree.substring(0, i));
+        }
+        return segment;
+    }
+
+    @Override
+    String key(int slot) {
+        if (slot >= ELEMENTS) return elementKey(slot);
+        Segment segment = segment(slot);
+        return segment.values.key(slot - segment.base);
+    }
+
+    @Override
+    Object value(int slot) {
+        if (slot >= ELEMENTS) return elementValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.value(slot - segment.base);
+    }
+
+    @Override
+    boolean isNull(int slot) {
+        if (slot < 0) return true;
+        if (slot >= ELEMENTS) return elementValue(slot) == null;
+        Segment segment = segment(slot);
+        return segment.values.isNull(slot - segment.base);
+    }
+
+    @Override
+    int intValue(int slot) {
+        if (slot >= ELEMENTS) return super.intValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.intValue(slot - segment.base);
+    }
+
+    @Override
+    long longValue(int slot) {
+        if (slot >= ELEMENTS) return super.longValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.longValue(slot - segment.base);
+    }
+
+    @Override
+    double doubleValue(int slot) {
+        if (slot >= ELEMENTS) return super.doubleValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.doubleValue(slot - segment.base);
+    }
+
+    @Override
+    boolean booleanValue(int slot) {
+        if (slot >= ELEMENTS) return super.booleanValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.booleanValue(slot - segment.base);
+    }
+
+    @Override
+    BigDecimal bigDecimalValue(int slot) {
+        if (slot >= ELEMENTS) return super.bigDecimalValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.bigDecimalValue(slot - segment.base);
+    }
+
+    @Override
+    BigInteger bigIntegerValue(int slot) {
+        if (slot >= ELEMENTS) return super.bigIntegerValue(slot);
+        Segment segment = segment(slot);
+        return segment.values.bigIntegerValue(slot - segment.base);
+    }
+
+    @Override
+    public int size() {
+        loadAll();
+        Segment[] loaded = this.loaded;
+        Segment last = loaded[loaded.length - 1];
+        return last.base + last.values.size();
+    }
+
+    private static final class BufferInput extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer.duplicate();
+            this.buffer.position(start).limit(end);
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!this.buffer.hasRemaining()) return -1;
+            length = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, length);
+            return length;
+        }
+
+    }
+
+}
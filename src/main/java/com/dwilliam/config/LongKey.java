@@ -0,0 +1,44 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.NoSuchConfigValueException;
+
+import java.util.function.LongSupplier;
+
+public final class LongKey extends ConfigHandle<LongKey.Bound> implements LongSupplier {
+
+    static final class Bound extends ConfigHandle.Binding {
+
+        final long value;
+
+        Bound(ConfigValues values, int slot, boolean present, long value) {
+            super(values, slot, present);
+            this.value = value;
+        }
+
+    }
+
+    LongKey(Config config, String tree) {
+        super(config, tree);
+        resolve();
+    }
+
+    @Override
+    Bound bind(ConfigValues values) {
+        int slot = values.slot(this.tree);
+        if (values.isNull(slot)) return new Bound(values, slot, false, 0);
+        return new Bound(values, slot, true, values.longValue(slot));
+    }
+
+    @Override
+    public long getAsLong() {
+        Bound binding = binding();
+        if (!binding.present) throw new NoSuchConfigValueException(this.tree);
+        return binding.value;
+    }
+
+    public long getAsLong(long elseValue) {
+        Bound binding = binding();
+        return binding.present ? binding.value : elseValue;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.dwilliam.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+final class SubConfig extends Config {
+
+    private final Config parent;
+    private final String prefix;
+
+    SubConfig(Config parent, String prefix) {
+        super(new ConfigSnapshot(parent.values().subtree(prefix), Map.of()));
+        this.parent = parent;
+        this.prefix = prefix;
+        parent.addDependent(new ConfigDependent(parent, this));
+    }
+
+    @Override
+    ConfigSnapshot read() {
+        return new ConfigSnapshot(this.parent.values().subtree(this.prefix), Map.of());
+    }
+
+    @Override
+    public Path path() {
+        return this.parent.path();
+    }
+
+    @Override
+    public ConfigType type() {
+        return this.parent.type();
+    }
+
+    @Override
+    public synchronized Config watch(Duration debounce) {
+        this.parent.watch(debounce);
+        return this;
+    }
+
+    @Override
+    public synchronized void unwatch() {
+        this.parent.unwatch();
+    }
+
+    @Override
+    public synchronized boolean isWatching() {
+        return this.parent.isWatching();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.dwilliam.config;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class SubtreeValues extends ConfigValues {
+
+    private final ConfigValues parent;
+    private final String prefix;
+    private final int from;
+    private final int to;
+
+    SubtreeValues(ConfigValues parent, String prefix, int from, int to) {
+        this.parent = parent;
+        this.prefix = prefix + ".";
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    int slot(String tree) {
+        return this.parent.slot(this.prefix + tree);
+    }
+
+    @Override
+    String key(int slot) {
+        return this.parent.key(slot).substring(this.prefix.length());
+    }
+
+    @Override
+    Object value(int slot) {
+        return this.parent.value(slot);
+    }
+
+    @Override
+    int arraySlot(int slot) {
+        return this.parent.arraySlot(slot);
+    }
+
+    @Override
+    int slotAt(int position) {
+        return this.parent.sortedSlot(this.from + position);
+    }
+
+    @Override
+    boolean sorted() {
+        return true;
+    }
+
+    @Override
+    boolean isNull(int slot) {
+        return this.parent.isNull(slot);
+    }
+
+    @Override
+    int intValue(int slot) {
+        return this.parent.intValue(slot);
+    }
+
+    @Override
+    long longValue(int slot) {
+        return this.parent.longValue(slot);
+    }
+
+    @Override
+    double doubleValue(int slot) {
+        return this.parent.doubleValue(slot);
+    }
+
+    @Override
+    boolean booleanValue(int slot) {
+        return this.parent.booleanValue(slot);
+    }
+
+    @Override
+    BigDecimal bigDecimalValue(int slot) {
+        return this.parent.bigDecimalValue(slot);
+    }
+
+    @Override
+    BigInteger bigIntegerValue(int slot) {
+        return this.parent.bigIntegerValue(slot);
+    }
+
+    @Override
+    public int size() {
+        return this.to - this.from;
+    }
+
+}
@@ -0,0 +1,293 @@
+package com.dwilliam.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+final class TypedValues extends ConfigValues {
+
+    static final byte NULL = 0;
+    static final byte BOOLEAN = 1;
+    static final byte INT = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte OBJECT = 5;
+
+    private final int size;
+    private final String[] keys;
+    private final String[] names;
+    private final int[] parents;
+    private final String[] branches;
+    private final int[] hashes;
+    private final int[] table;
+    private final byte[] kinds;
+    private final long[] longs;
+    private final long[] booleans;
+    private final Object[] objects;
+    private final int strings;
+
+    private TypedValues(Builder builder) {
+        this.size = builder.size;
+        this.keys = new String[builder.size];
+        this.names = new String[builder.size];
+        this.parents = new int[builder.size];
+        this.hashes = new int[builder.size];
+        Map<String, Integer> branches = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+        String previous = null;
+        int previousDot = -1;
+        for (int slot = 0; slot < builder.size; slot++) {
+            String tree = builder.keys[slot].intern();
+            this.keys[slot] = tree;
+            int dot = tree.lastIndexOf('.');
+            this.names[slot] = names.computeIfAbsent(tree.substring(dot + 1), name -> name);
+            if (dot < 0) this.parents[slot] = -1;
+            else if (previous != null && dot == previousDot && tree.regionMatches(0, previous, 0, dot)) this.parents[slot] = this.parents[slot - 1];
+            else this.parents[slot] = branches.computeIfAbsent(tree.substring(0, dot), path -> branches.size());
+            this.hashes[slot] = hash(tree);
+            previous = tree;
+            previousDot = dot;
+        }
+        this.branches = new String[branches.size()];
+        for (Map.Entry<String, Integer> entry : branches.entrySet()) this.branches[entry.getValue()] = entry.getKey();
+        this.table = builder.table;
+        this.kinds = Arrays.copyOf(builder.kinds, builder.size);
+        this.longs = Arrays.copyOf(builder.longs, builder.size);
+        this.booleans = Arrays.copyOf(builder.booleans, (builder.size + 63) >>> 6);
+        this.objects = Arrays.copyOf(builder.objects, builder.size);
+        this.strings = builder.strings.size();
+    }
+
+    private static int hash(String tree) {
+        int hash = tree.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int find(int[] table, String[] keys, String tree) {
+        int mask = table.length - 1;
+        for (int index = hash(tree) & mask; ; index = (index + 1) & mask) {
+            int slot = table[index] - 1;
+            if (slot < 0 || keys[slot].equals(tree)) return index;
+        }
+    }
+
+    @Override
+    int slot(String tree) {
+        int hash = hash(tree);
+        int mask = this.table.length - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            int slot = this.table[index] - 1;
+            if (slot < 0) return element(tree);
+            if (this.hashes[slot] == hash) {
+                String key = this.keys[slot];
+                if (key == tree || key.equals(tree)) return slot;
+            }
+        }
+    }
+
+    @Override
+    String key(int slot) {
+        if (slot >= ELEMENTS) return elementKey(slot);
+        return this.keys[slot];
+    }
+
+    @Override
+    Object value(int slot) {
+        if (slot >= ELEMENTS) return elementValue(slot);
+        switch (this.kinds[slot]) {
+            case BOOLEAN:
+                return booleanValue(slot);
+            case INT:
+                return (int) this.longs[slot];
+            case LONG:
+                return this.longs[slot];
+            case DOUBLE:
+                return Double.longBitsToDouble(this.longs[slot]);
+            case OBJECT:
+                return this.objects[slot];
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    boolean isNull(int slot) {
+        if (slot >= ELEMENTS) return elementValue(slot) == null;
+        return slot < 0 || this.kinds[slot] == NULL;
+    }
+
+    @Override
+    int intValue(int slot) {
+        if (slot >= ELEMENTS) return super.intValue(slot);
+        byte kind = this.kinds[slot];
+        if (kind == INT || kind == LONG) return (int) this.longs[slot];
+        if (kind == DOUBLE) return (int) Double.longBitsToDouble(this.longs[slot]);
+        return number(slot).intValue();
+    }
+
+    @Override
+    long longValue(int slot) {
+        if (slot >= ELEMENTS) return super.longValue(slot);
+        byte kind = this.kinds[slot];
+        if (kind == INT || kind == LONG) return this.longs[slot];
+        if (kind == DOUBLE) return (long) Double.longBitsToDouble(this.longs[slot]);
+        return number(slot).longValue();
+    }
+
+    @Override
+    double doubleValue(int slot) {
+        if (slot >= ELEMENTS) return super.doubleValue(slot);
+        byte kind = this.kinds[slot];
+        if (kind == DOUBLE) return Double.longBitsToDouble(this.longs[slot]);
+        if (kind == INT || kind == LONG) return this.longs[slot];
+        return number(slot).doubleValue();
+    }
+
+    @Override
+    boolean booleanValue(int slot) {
+        if (slot >= ELEMENTS) return super.booleanValue(slot);
+        if (this.kinds[slot] != BOOLEAN) throw cannotCast(slot, "Boolean");
+        return (this.booleans[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    @Override
+    ConfigMemoryStats memoryStats() {
+        Set<String> names = Collections.newSetFromMap(new IdentityHashMap<>());
+        long keyBytes = ConfigMemoryStats.align(16 + 4L * this.size) * 4 + ConfigMemoryStats.align(16 + 4L * this.table.length)
+                        + ConfigMemoryStats.align(16 + 4L * this.branches.length);
+        long flatKeyBytes = 4L * this.size;
+        for (int slot = 0; slot < this.size; slot++) {
+            if (names.add(this.keys[slot])) keyBytes += ConfigMemoryStats.stringBytes(this.keys[slot]);
+            if (names.add(this.names[slot])) keyBytes += ConfigMemoryStats.stringBytes(this.names[slot]);
+            int length = this.names[slot].length() + (this.parents[slot] < 0 ? 0 : this.branches[this.parents[slot]].length() + 1);
+            flatKeyBytes += ConfigMemoryStats.align(24) + ConfigMemoryStats.align(16 + length);
+        }
+        for (String branch : this.branches) keyBytes += ConfigMemoryStats.stringBytes(branch);
+
+        Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        long valueBytes = ConfigMemoryStats.align(16 + this.size) + ConfigMemoryStats.align(16 + 8L * this.size)
+                          + ConfigMemoryStats.align(16 + 8L * this.booleans.length) + ConfigMemoryStats.align(16 + 4L * this.size);
+        for (Object object : this.objects) {
+            if (object != null && objects.add(object)) valueBytes += valueBytes(object);
+        }
+        return new ConfigMemoryStats(this.size, this.branches.length, keyBytes, flatKeyBytes, valueBytes, this.strings);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    static final class Builder {
+
+        private int size;
+        private String[] keys = new String[16];
+        private int[] table = new int[32];
+        private byte[] kinds = new byte[16];
+        private long[] longs = new long[16];
+        private long[] booleans = new long[1];
+        private Object[] objects = new Object[16];
+        private final Map<String, String> strings = new HashMap<>();
+
+        int put(String tree, Object value) {
+            int index = find(this.table, this.keys, tree);
+            int slot = this.table[index] - 1;
+            if (slot < 0) {
+                slot = this.size++;
+                grow();
+                this.keys[slot] = tree;
+                this.table[index] = slot + 1;
+                if (this.size * 2 > this.table.length) rehash();
+            }
+            else {
+                this.objects[slot] = null;
+                this.booleans[slot >>> 6] &= ~(1L << slot);
+            }
+            set(slot, value);
+            return slot;
+        }
+
+        private void set(int slot, Object value) {
+            if (value == null) this.kinds[slot] = NULL;
+            else if (value instanceof Boolean) {
+                this.kinds[slot] = BOOLEAN;
+                if ((Boolean) value) this.booleans[slot >>> 6] |= 1L << slot;
+            }
+            else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                this.kinds[slot] = INT;
+                this.longs[slot] = ((Number) value).longValue();
+            }
+            else if (value instanceof Long) {
+                this.kinds[slot] = LONG;
+                this.longs[slot] = (Long) value;
+            }
+            else if (value instanceof Double || value instanceof Float) {
+                this.kinds[slot] = DOUBLE;
+                this.longs[slot] = Double.doubleToRawLongBits(((Number) value).doubleValue());
+            }
+            else {
+                this.kinds[slot] = OBJECT;
+                this.objects[slot] = value instanceof String ? this.strings.computeIfAbsent((String) value, string -> string) : value;
+            }
+        }
+
+        private void grow() {
+            if (this.size <= this.keys.length) return;
+            int capacity = this.keys.length * 2;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.kinds = Arrays.copyOf(this.kinds, capacity);
+            this.longs = Arrays.copyOf(this.longs, capacity);
+            this.booleans = Arrays.copyOf(this.booleans, (capacity + 63) >>> 6);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+        }
+
+        private void rehash() {
+            int[] table = new int[this.table.length * 2];
+            int mask = table.length - 1;
+            for (int slot = 0; slot < this.size; slot++) {
+                int index = hash(this.keys[slot]) & mask;
+                while (table[index] != 0) index = (index + 1) & mask;
+                table[index] = slot + 1;
+            }
+            this.table = table;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        int slot(String tree) {
+            return this.table[find(this.table, this.keys, tree)] - 1;
+        }
+
+        String key(int slot) {
+            return this.keys[slot];
+        }
+
+        Object value(int slot) {
+            switch (this.kinds[slot]) {
+                case BOOLEAN:
+                    return (this.booleans[slot >>> 6] & (1L << slot)) != 0;
+                case INT:
+                    return (int) this.longs[slot];
+                case LONG:
+                    return this.longs[slot];
+                case DOUBLE:
+                    return Double.longBitsToDouble(this.longs[slot]);
+                case OBJECT:
+                    return this.objects[slot];
+                default:
+                    return null;
+            }
+        }
+
+        TypedValues build() {
+            return new TypedValues(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.dwilliam.config.exception;
+
+import java.util.List;
+
+public class ConfigBindException extends ConfigException {
+
+    private final List<String> errors;
+
+    public ConfigBindException(String tree, Class<?> type, List<String> errors) {
+        super("Cannot bind " + (tree.isEmpty() ? "root" : tree) + " to " + type.getName() + " : " + String.join(", ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> errors() {
+        return this.errors;
+    }
+
+}
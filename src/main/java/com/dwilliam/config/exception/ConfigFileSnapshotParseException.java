@@ -0,0 +1,11 @@
+package com.dwilliam.config.exception;
+
+import java.nio.file.Path;
+
+public class ConfigFileSnapshotParseException extends ConfigFileParseException {
+
+    public ConfigFileSnapshotParseException(Path path, String message) {
+        super(path, message);
+    }
+
+}
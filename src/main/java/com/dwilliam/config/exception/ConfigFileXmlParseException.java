@@ -0,0 +1,11 @@
+package com.dwilliam.config.exception;
+
+import java.nio.file.Path;
+
+public class ConfigFileXmlParseException extends ConfigFileParseException {
+
+    public ConfigFileXmlParseException(Path path, String message) {
+        super(path, message);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.dwilliam.config.exception;
+
+import java.nio.file.Path;
+
+public class ConfigFileYamlParseException extends ConfigFileParseException {
+
+    public ConfigFileYamlParseException(Path path, String message) {
+        super(path, message);
+    }
+
+}
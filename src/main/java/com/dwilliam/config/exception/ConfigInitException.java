@@ -0,0 +1,20 @@
+package com.dwilliam.config.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ConfigInitException extends ConfigException {
+
+    private final List<RuntimeException> errors;
+
+    public ConfigInitException(List<RuntimeException> errors) {
+        super(errors.size() + " config(s) failed to load : " + errors.stream().map(RuntimeException::getMessage).collect(Collectors.joining(", ")));
+        this.errors = List.copyOf(errors);
+        for (RuntimeException error : errors) addSuppressed(error);
+    }
+
+    public List<RuntimeException> errors() {
+        return this.errors;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.dwilliam.config.exception;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class ConfigOverrideException extends ConfigFileException {
+
+    private final List<String> errors;
+
+    public ConfigOverrideException(Path path, List<String> errors) {
+        super(path, errors.size() + " override error(s) : " + String.join(", ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> errors() {
+        return this.errors;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigArrayTest {
+
+    private static final String JSON = "{\"ints\": [1, 2, 3], \"longs\": [1, 9000000000], \"doubles\": [0.5, 1.5],"
+                                       + " \"strings\": [\"a\", \"b\"], \"mixed\": [1, \"x\", null, true],"
+                                       + " \"objects\": [{\"name\": \"x\"}, {\"name\": \"y\"}], \"nested\": [[1, 2], [3]]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keepsElementTypes() {
+        ConfigArray longs = new ConfigArray(Arrays.asList(1, 9000000000L));
+        ConfigArray mixed = new ConfigArray(Arrays.asList(1, 2.5, "x", null));
+
+        assertEquals(List.of(1, 2, 3), new ConfigArray(List.of(1, 2, 3)));
+        assertEquals(Integer.class, longs.get(0).getClass());
+        assertEquals(9000000000L, longs.get(1));
+        assertArrayEquals(new long[] {1, 9000000000L}, longs.toLongArray());
+        assertThrows(ClassCastException.class, longs::toIntArray);
+        assertArrayEquals(new double[] {1, 2}, new ConfigArray(List.of(1, 2)).toDoubleArray());
+        assertEquals(2.5, mixed.getDouble(1));
+        assertEquals("x", mixed.getString(2));
+        assertNull(mixed.get(3));
+        assertThrows(ClassCastException.class, mixed::toLongArray);
+        assertThrows(ClassCastException.class, () -> new ConfigArray(List.of(1)).getString(0));
+        assertArrayEquals(new int[0], new ConfigArray(List.of()).toIntArray());
+    }
+
+    @Test
+    void elementsAreNotFlattenedButStillResolve() throws IOException {
+        Config config = TestConfigs.load(this.directory, JSON);
+
+        assertEquals(List.of("doubles", "ints", "longs", "mixed", "nested", "nested[0]", "nested[1]", "objects", "objects[0].name",
+                             "objects[1].name", "strings"), config.keysUnder(""));
+        assertEquals(2, config.getInt("ints[1]", 0));
+        assertEquals(2, config.intKey("ints[1]").getAsInt());
+        assertEquals(9000000000L, config.getLong("longs[1]", 0));
+        assertEquals(1.5, config.getDouble("doubles[1]", 0));
+        assertEquals("b", config.getString("strings[1]"));
+        assertEquals(true, config.getBoolean("mixed[3]", false));
+        assertNull(config.get("mixed[2]"));
+        assertNull(config.get("ints[3]"));
+        assertNull(config.get("ints[x]"));
+        assertEquals("y", config.getString("objects[1].name"));
+        assertEquals(Map.of("name", "x"), config.get("objects[0]"));
+        assertArrayEquals(new int[] {1, 2}, config.getIntArray("nested[0]"));
+        assertEquals(3, config.getInt("nested[1][0]", 0));
+        assertThrows(ClassCastException.class, () -> config.getInt("strings[0]", 0));
+    }
+
+    @Test
+    void elementSlotsKeepTheirKeys() throws IOException {
+        ConfigValues values = TestConfigs.load(this.directory, JSON).values();
+        int first = values.slot("ints[2]");
+        int second = values.slot("strings[0]");
+
+        assertEquals(first, values.slot("ints[2]"));
+        assertEquals("ints[2]", values.key(first));
+        assertEquals("strings[0]", values.key(second));
+        assertEquals(values.slot("ints"), values.arraySlot(first));
+        assertEquals(3, values.intValue(first));
+    }
+
+    @Test
+    void lazyAndMappedConfigsResolveElements() throws IOException {
+        Path path = this.directory.resolve("lazy.json");
+        Files.writeString(path, JSON);
+        Path snapshot = this.directory.resolve("arrays.snapshot");
+        TestConfigs.load(this.directory, JSON).writeSnapshot(snapshot);
+
+        for (Config config : List.of(Config.openLazy(path), Config.openSnapshot(snapshot))) {
+            assertEquals(3, config.getInt("ints[2]", 0));
+            assertEquals("a", config.getString("strings[0]"));
+            assertEquals("x", config.getString("objects[0].name"));
+            assertEquals(3, config.getInt("nested[1][0]", 0));
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigBindException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBinderRecordTest {
+
+    record Server(String host, int port, TimeUnit unit, Pool pool) {}
+
+    record Pool(int size, Integer max) {}
+
+    record Hosts(String name, long[] ports) {}
+
+    record Timeouts(int retries, Duration connect) {}
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void bindsNestedRecordsThroughTheCanonicalConstructor() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": \"localhost\", \"port\": 8080, \"unit\": \"SECONDS\", \"pool\": {\"size\": 4}}}");
+
+        Server server = config.bind("server", Server.class);
+
+        assertEquals(new Server("localhost", 8080, TimeUnit.SECONDS, new Pool(4, null)), server);
+        assertNull(config.bind("server", Server.class).pool().max());
+    }
+
+    @Test
+    void immutableRecordsAreCachedUntilTheNextReload() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": \"a\", \"port\": 1, \"pool\": {\"size\": 4}}}");
+
+        Server first = config.bind("server", Server.class);
+        assertTrue(ConfigBinder.of(Server.class).isImmutable());
+        assertSame(first, config.bind("server", Server.class));
+
+        Files.writeString(config.path(), "{\"server\": {\"host\": \"b\", \"port\": 2, \"pool\": {\"size\": 4}}}");
+        config.reload();
+
+        Server second = config.bind("server", Server.class);
+        assertNotSame(first, second);
+        assertEquals("b", second.host());
+    }
+
+    @Test
+    void recordsHoldingArraysAreBoundOnEveryCall() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"hosts\": {\"name\": \"a\", \"ports\": [80, 443]}}");
+
+        Hosts first = config.bind("hosts", Hosts.class);
+        first.ports()[0] = 1;
+        Hosts second = config.bind("hosts", Hosts.class);
+
+        assertFalse(ConfigBinder.of(Hosts.class).isImmutable());
+        assertNotSame(first, second);
+        assertArrayEquals(new long[] {80, 443}, second.ports());
+    }
+
+    @Test
+    void missingPrimitiveComponentsAreReported() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": \"a\", \"unit\": \"seconds\", \"pool\": {}}}");
+
+        ConfigBindException error = assertThrows(ConfigBindException.class, () -> config.bind("server", Server.class));
+
+        assertTrue(error.errors().contains("server.port is not set"), error.getMessage());
+        assertEquals(2, error.errors().size(), error.getMessage());
+    }
+
+    @Test
+    void unsupportedComponentTypesAreRejected() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"timeouts\": {\"retries\": 3, \"connect\": \"5s\"}}");
+
+        ConfigBindException error = assertThrows(ConfigBindException.class, () -> config.bind("timeouts", Timeouts.class));
+
+        assertEquals(List.of("connect has unsupported type java.time.Duration"), error.errors());
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigBindException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBinderTest {
+
+    static class Server {
+
+        String host;
+        int port;
+        Pool pool;
+
+    }
+
+    static class Pool {
+
+        int size;
+        long[] sizes;
+
+    }
+
+    static class Timeouts {
+
+        int retries;
+        Duration connect;
+
+    }
+
+    static class Cluster {
+
+        String name;
+        Timeouts timeouts;
+
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void bindsNestedClasses() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": \"localhost\", \"port\": 8080, \"pool\": {\"size\": 4, \"sizes\": [1, 2]}}}");
+
+        Server server = config.bind("server", Server.class);
+
+        assertEquals("localhost", server.host);
+        assertEquals(8080, server.port);
+        assertEquals(4, server.pool.size);
+        assertEquals(2, server.pool.sizes[1]);
+    }
+
+    @Test
+    void mutableBindingsAreNotShared() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": \"localhost\", \"port\": 8080}}");
+
+        Server first = config.bind("server", Server.class);
+        first.port = 1;
+        Server second = config.bind("server", Server.class);
+
+        assertFalse(ConfigBinder.of(Server.class).isImmutable());
+        assertNotSame(first, second);
+        assertEquals(8080, second.port);
+        assertNull(second.pool);
+    }
+
+    @Test
+    void reportsEveryBadProperty() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"server\": {\"host\": 1, \"port\": \"x\"}}");
+
+        ConfigBindException error = assertThrows(ConfigBindException.class, () -> config.bind("server", Server.class));
+
+        assertTrue(error.getMessage().contains("server.host : Cannot cast server.host value to String"), error.getMessage());
+        assertTrue(error.getMessage().contains("server.port : Cannot cast server.port value to Number"), error.getMessage());
+    }
+
+    @Test
+    void unsupportedPropertyTypesAreRejectedWhenTheBinderIsBuilt() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"cluster\": {\"name\": \"a\", \"timeouts\": {\"retries\": 3, \"connect\": \"5s\"}}}");
+
+        ConfigBindException error = assertThrows(ConfigBindException.class, () -> config.bind("cluster.timeouts", Timeouts.class));
+        assertTrue(error.getMessage().contains("connect has unsupported type java.time.Duration"), error.getMessage());
+        assertThrows(ConfigBindException.class, () -> config.bind("cluster", Cluster.class));
+        assertThrows(ConfigBindException.class, () -> ConfigBinder.of(Timeouts.class));
+    }
+
+}
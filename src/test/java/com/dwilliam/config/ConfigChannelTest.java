@@ -0,0 +1,190 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigChannelTest {
+
+    private static final long TIMEOUT_MILLIS = 20_000;
+
+    @TempDir
+    Path directory;
+
+    private final ConfigReporter reporter = Configs.reporter();
+
+    @AfterEach
+    void restoreReporter() {
+        Configs.setReporter(this.reporter);
+    }
+
+    @Test
+    void subscriberInAnotherProcessSeesEveryPublish() throws Exception {
+        Path path = this.directory.resolve("published.json");
+        Path channelPath = this.directory.resolve("published.channel");
+        Files.writeString(path, "{\"port\": 1}");
+        Config config = TestConfigs.open(path, ConfigType.JSON);
+        try (ConfigChannel channel = ConfigChannel.publish(config, channelPath)) {
+            Process subscriber = start("subscribe", channelPath.toString(), "3");
+            BlockingQueue<String> lines = lines(subscriber);
+            try {
+                assertEquals("port=1", lines.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                Files.writeString(path, "{\"port\": 2}");
+                config.reload();
+                assertEquals("port=2", lines.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                Files.writeString(path, "{\"port\": 3}");
+                config.reload();
+                assertEquals("port=3", lines.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                assertTrue(subscriber.waitFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "subscriber did not exit");
+                assertEquals(0, subscriber.exitValue());
+                assertEquals(3, channel.sequence());
+            }
+            finally {
+                subscriber.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    void publisherInAnotherProcessIsFollowed() throws Exception {
+        Path path = this.directory.resolve("remote.json");
+        Path channelPath = this.directory.resolve("remote.channel");
+        Files.writeString(path, "{\"name\": \"a\", \"pool\": {\"size\": 4}}");
+        Process publisher = start("publish", path.toString(), channelPath.toString());
+        BlockingQueue<String> lines = lines(publisher);
+        try {
+            assertEquals("published", lines.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            Config config = ConfigChannel.subscribe(channelPath).watch(Duration.ofMillis(10));
+            try {
+                assertEquals("a", config.getString("name"));
+                assertEquals(4, config.getInt("pool.size", 0));
+
+                Files.writeString(path, "{\"name\": \"b\", \"pool\": {\"size\": 8}}");
+                command(publisher, "reload");
+                assertEquals("published", lines.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                assertTrue(ConfigWatcherTest.await(() -> config.getInt("pool.size", 0) == 8), "publish was not picked up");
+                assertEquals("b", config.getString("name"));
+            }
+            finally {
+                config.unwatch();
+            }
+            publisher.getOutputStream().close();
+            assertTrue(publisher.waitFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "publisher did not exit");
+            assertEquals(0, publisher.exitValue());
+        }
+        finally {
+            publisher.destroyForcibly();
+        }
+    }
+
+    @Test
+    void pollFailuresGoToTheReporter() throws Exception {
+        BlockingQueue<String> errors = new ArrayBlockingQueue<>(16);
+        Configs.setReporter(new ConfigReporter() {
+
+            @Override
+            public void report(ConfigReport report) {
+            }
+
+            @Override
+            public void error(Path path, String message, RuntimeException error) {
+                errors.offer(path.getFileName() + " : " + message);
+            }
+
+        });
+        Path path = this.directory.resolve("broken.json");
+        Path channelPath = this.directory.resolve("broken.channel");
+        Files.writeString(path, "{\"port\": 80}");
+        try (ConfigChannel channel = ConfigChannel.publish(TestConfigs.open(path, ConfigType.JSON), channelPath)) {
+            Config config = ConfigChannel.subscribe(channelPath).watch(Duration.ofMillis(10));
+            try {
+                Files.writeString(ConfigChannel.data(channelPath, channel.sequence() + 1), "not a snapshot");
+                try (FileChannel control = FileChannel.open(channelPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    control.write(ByteBuffer.allocate(Long.BYTES).putLong(0, channel.sequence() + 1), 8);
+                }
+                assertEquals("broken.channel : channel reload failed, keeping previous values", errors.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                assertEquals(80, config.getInt("port", 0));
+            }
+            finally {
+                config.unwatch();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        if (args[0].equals("subscribe")) {
+            Config config = ConfigChannel.subscribe(Paths.get(args[1])).watch(Duration.ofMillis(10));
+            int last = Integer.parseInt(args[2]);
+            int seen = 0;
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (seen < last && System.currentTimeMillis() < deadline) {
+                int port = config.getInt("port", 0);
+                if (port != seen) out.println("port=" + (seen = port));
+                Thread.sleep(5);
+            }
+            System.exit(seen == last ? 0 : 1);
+        }
+        Config config = TestConfigs.open(Paths.get(args[1]), ConfigType.JSON);
+        try (ConfigChannel ignored = ConfigChannel.publish(config, Paths.get(args[2]))) {
+            out.println("published");
+            BufferedReader commands = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            while (commands.readLine() != null) {
+                config.reload();
+                out.println("published");
+            }
+        }
+    }
+
+    private static Process start(String... args) throws IOException {
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        String[] command = new String[args.length + 4];
+        command[0] = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        command[1] = "-cp";
+        command[2] = classpath;
+        command[3] = ConfigChannelTest.class.getName();
+        System.arraycopy(args, 0, command, 4, args.length);
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    private static BlockingQueue<String> lines(Process process) {
+        BlockingQueue<String> lines = new ArrayBlockingQueue<>(64);
+        Thread reader = new Thread(() -> {
+            try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                for (String line = output.readLine(); line != null; line = output.readLine()) {
+                    if (!line.startsWith("[CONFIG]")) lines.offer(line);
+                }
+            }
+            catch (IOException ignored) {
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        return lines;
+    }
+
+    private static void command(Process process, String command) throws IOException {
+        process.getOutputStream().write((command + "\n").getBytes(StandardCharsets.UTF_8));
+        process.getOutputStream().flush();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigDiffTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void identicalSnapshotsHaveNoChanges() throws IOException {
+        ConfigSnapshot before = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"c\": [1, 2]}, \"d\": \"x\"}");
+        ConfigSnapshot after = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"c\": [1, 2]}, \"d\": \"x\"}");
+
+        assertTrue(ConfigDiff.diff(null, before, after).isEmpty());
+    }
+
+    @Test
+    void reportsChangedAddedAndRemovedLeaves() throws IOException {
+        ConfigSnapshot before = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"gone\": true}, \"d\": \"x\"}");
+        ConfigSnapshot after = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 2, \"new\": \"n\"}, \"d\": \"x\"}");
+
+        List<ConfigChange> changes = sorted(ConfigDiff.diff(null, before, after));
+
+        assertEquals(3, changes.size(), changes::toString);
+        assertEquals("a.b", changes.get(0).tree());
+        assertEquals(1, (int) changes.get(0).oldValue());
+        assertEquals(2, (int) changes.get(0).newValue());
+        assertEquals("a.gone", changes.get(1).tree());
+        assertTrue(changes.get(1).isRemoved());
+        assertEquals("a.new", changes.get(2).tree());
+        assertTrue(changes.get(2).isAdded());
+    }
+
+    @Test
+    void unchangedSubtreesKeepTheirHash() throws IOException {
+        ConfigSnapshot before = TestConfigs.snapshot(this.directory, "{\"stable\": {\"x\": 1, \"y\": {\"z\": [1, 2]}}, \"moving\": {\"v\": 1}}");
+        ConfigSnapshot after = TestConfigs.snapshot(this.directory, "{\"stable\": {\"x\": 1, \"y\": {\"z\": [1, 2]}}, \"moving\": {\"v\": 2}}");
+
+        assertFalse(before.branches.isEmpty());
+        assertEquals(before.branches.get("stable").hash, after.branches.get("stable").hash);
+        assertNotEquals(before.branches.get("moving").hash, after.branches.get("moving").hash);
+        assertEquals(List.of("moving.v"), trees(ConfigDiff.diff(null, before, after)));
+    }
+
+    @Test
+    void flatDiffMatchesBranchDiff() throws IOException {
+        ConfigSnapshot before = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"c\": 2}, \"d\": [1, 2, 3]}");
+        ConfigSnapshot after = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"c\": 3}, \"d\": [1, 2]}");
+        ConfigSnapshot flatBefore = new ConfigSnapshot(before.values, Map.of());
+
+        assertEquals(trees(ConfigDiff.diff(null, before, after)), trees(ConfigDiff.diff(null, flatBefore, after)));
+    }
+
+    @Test
+    void rewrittenSnapshotsRecomputeTheSameHashes() throws IOException {
+        ConfigSnapshot loaded = TestConfigs.snapshot(this.directory, "{\"a\": {\"b\": 1, \"c\": [1, 2], \"big\": 9000000000}, \"d\": \"x\", \"e\": null,"
+                                                                     + " \"routes\": [{\"path\": \"/a\", \"auth\": {\"on\": true}}], \"f\": 0.5}");
+        ConfigSnapshot rewritten = ConfigSnapshot.Builder.copy(loaded.values).build();
+
+        assertEquals(loaded.branches.keySet(), rewritten.branches.keySet());
+        for (String tree : loaded.branches.keySet()) assertEquals(loaded.branches.get(tree).hash, rewritten.branches.get(tree).hash, tree);
+    }
+
+    @Test
+    void schemaDefaultsAndCoercionsKeepBranchHashes() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder().optional("server.port", Integer.class).optional("db.pool.size", Integer.class, 4).build();
+        ConfigSnapshot plain = TestConfigs.snapshot(this.directory, "{\"stable\": {\"x\": 1}, \"server\": {\"port\": 80}, \"db\": {\"pool\": {\"size\": 4}}}");
+        ConfigSnapshot before = TestConfigs.snapshot(this.directory, "{\"stable\": {\"x\": 1}, \"server\": {\"port\": \"80\"}, \"db\": {\"url\": \"a\"}}", schema);
+        ConfigSnapshot after = TestConfigs.snapshot(this.directory, "{\"stable\": {\"x\": 1}, \"server\": {\"port\": \"81\"}, \"db\": {\"url\": \"a\"}}", schema);
+
+        assertFalse(before.branches.isEmpty());
+        assertEquals(plain.branches.get("stable").hash, before.branches.get("stable").hash);
+        assertEquals(plain.branches.get("server").hash, before.branches.get("server").hash);
+        assertEquals(plain.branches.get("db.pool").hash, before.branches.get("db.pool").hash);
+        assertEquals(List.of("server.port"), trees(ConfigDiff.diff(null, before, after)));
+        assertEquals(List.of("db.url"), trees(ConfigDiff.diff(null, plain, before)));
+    }
+
+    @Test
+    void listenersOnlySeeTheirTrees() throws IOException {
+        Path path = this.directory.resolve("listened.json");
+        Files.writeString(path, "{\"db\": {\"url\": \"a\", \"pool\": 4}, \"server\": {\"port\": 80}}");
+        Config config = TestConfigs.open(path, ConfigType.JSON);
+        List<String> exact = new ArrayList<>();
+        List<String> prefix = new ArrayList<>();
+        config.addListener("server.port", change -> exact.add(change.tree()), Runnable::run);
+        config.addPrefixListener("db", change -> prefix.add(change.tree()), Runnable::run);
+
+        Files.writeString(path, "{\"db\": {\"url\": \"b\", \"pool\": 4}, \"server\": {\"port\": 80}}");
+        config.reload();
+        Files.writeString(path, "{\"db\": {\"url\": \"b\", \"pool\": 4}, \"server\": {\"port\": 81}}");
+        config.reload();
+
+        assertEquals(List.of("server.port"), exact);
+        assertEquals(List.of("db.url"), prefix);
+    }
+
+    private static List<ConfigChange> sorted(List<ConfigChange> changes) {
+        List<ConfigChange> sorted = new ArrayList<>(changes);
+        sorted.sort(Comparator.comparing(ConfigChange::tree));
+        return sorted;
+    }
+
+    private static List<String> trees(List<ConfigChange> changes) {
+        List<String> trees = new ArrayList<>();
+        for (ConfigChange change : sorted(changes)) trees.add(change.tree());
+        return trees;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigKeyTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void bigNumberKeysConvertLikeTheGetters() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"long\": 9007199254740993, \"huge\": 123456789012345678901234567890, \"decimal\": 0.1}");
+
+        assertEquals(config.getBigDecimal("long"), config.key("long", BigDecimal.class).get());
+        assertEquals(new BigDecimal("9007199254740993"), config.key("long", BigDecimal.class).get());
+        assertEquals(config.getBigInteger("huge"), config.key("huge", BigInteger.class).get());
+        assertEquals(new BigInteger("123456789012345678901234567890"), config.key("huge", BigInteger.class).get());
+        assertEquals(config.getBigDecimal("decimal"), config.key("decimal", BigDecimal.class).get());
+        assertNull(config.key("missing", BigDecimal.class).get());
+    }
+
+    @Test
+    void keysFollowReloads() throws IOException {
+        Path path = this.directory.resolve("reload.json");
+        Files.writeString(path, "{\"port\": 80}");
+        Config config = TestConfigs.open(path, ConfigType.JSON);
+        IntKey port = config.intKey("port");
+        ConfigKey<Long> boxed = config.key("port", Long.class);
+
+        Files.writeString(path, "{\"port\": 8080}");
+        config.reload();
+
+        assertEquals(8080, port.getAsInt());
+        assertEquals(8080L, boxed.get());
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileEncodingException;
+import com.dwilliam.config.exception.ConfigFileJsonParseException;
+import com.dwilliam.config.exception.ConfigFileXmlParseException;
+import com.dwilliam.config.exception.ConfigFileYamlParseException;
+import com.dwilliam.config.exception.NoSuchConfigFileException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void allFormatsFlattenToTheSameKeys() throws Exception {
+        Config json = fixture("config.json", ConfigType.JSON);
+        Config yaml = fixture("config.yaml", ConfigType.YAML);
+        Config xml = fixture("config.xml", ConfigType.XML);
+
+        List<String> keys = List.of("db.pool.size", "db.url", "name", "server.host", "server.port", "server.tls");
+        assertEquals(keys, json.keysUnder(""));
+        assertEquals(keys, yaml.keysUnder(""));
+        assertEquals(keys, xml.keysUnder(""));
+        for (String tree : keys) {
+            assertEquals((Object) json.get(tree), yaml.get(tree), tree);
+            assertEquals((Object) json.get(tree), xml.get(tree), tree);
+        }
+        assertEquals(8080, yaml.getInt("server.port", 0));
+        assertEquals(16, json.getInt("db.pool.size", 0));
+    }
+
+    @Test
+    void repeatedXmlElementsBecomeArrays() throws Exception {
+        Config xml = fixture("repeated.xml", ConfigType.XML);
+
+        assertEquals(List.of("a", "b", "c"), xml.getStringList("item"));
+        assertEquals("b", xml.getString("item[1]"));
+        assertEquals(2, xml.getArray("routes.route").size());
+        assertEquals("/a", xml.getString("routes.route[0].path"));
+        assertEquals("y", xml.getString("routes.route[1].target"));
+        assertEquals("only", xml.getString("single"));
+    }
+
+    @Test
+    void xmlLeavesAreTyped() throws IOException {
+        Config xml = TestConfigs.open(this.directory.resolve("typed.xml"), "<config><port>8080</port><tls>true</tls><debug>false</debug><ratio>0.75</ratio>"
+                + "<max>9000000000</max><code>007</code><name>app</name><big>123456789012345678901234567890</big>"
+                + "<route><weight>1</weight></route><route><weight>2</weight><tag>a</tag><tag>b</tag></route></config>", ConfigType.XML);
+
+        assertEquals(8080, xml.getInt("port", 0));
+        assertEquals(true, xml.getBoolean("tls", false));
+        assertEquals(false, xml.getBoolean("debug", true));
+        assertEquals(0.75, xml.getDouble("ratio", 0));
+        assertEquals(9_000_000_000L, xml.getLong("max", 0));
+        assertEquals("007", xml.getString("code"));
+        assertEquals("app", xml.getString("name"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), xml.getBigInteger("big"));
+        assertEquals(2, xml.getInt("route[1].weight", 0));
+        assertEquals(List.of("a", "b"), xml.getStringList("route[1].tag"));
+    }
+
+    @Test
+    void nonContiguousXmlRepeatsAreRejected() {
+        assertThrows(ConfigFileXmlParseException.class, () -> TestConfigs.open(this.directory.resolve("split.xml"), "<config><a>1</a><b>2</b><a>3</a></config>", ConfigType.XML));
+        assertThrows(ConfigFileXmlParseException.class, () -> TestConfigs.open(this.directory.resolve("nested.xml"), "<config><r><a>1</a></r><r><a>1</a><b>2</b><a>3</a></r></config>", ConfigType.XML));
+    }
+
+    @Test
+    void malformedFilesFailWithTheirFormatException() throws IOException {
+        assertThrows(ConfigFileJsonParseException.class, () -> TestConfigs.open(this.directory.resolve("bad.json"), "{\"a\": ", ConfigType.JSON));
+        assertThrows(ConfigFileJsonParseException.class, () -> TestConfigs.open(this.directory.resolve("array.json"), "[1, 2]", ConfigType.JSON));
+        assertThrows(ConfigFileYamlParseException.class, () -> TestConfigs.open(this.directory.resolve("bad.yaml"), "a: [1, 2\nb: :", ConfigType.YAML));
+        assertThrows(ConfigFileXmlParseException.class, () -> TestConfigs.open(this.directory.resolve("bad.xml"), "<config><a>1</b></config>", ConfigType.XML));
+        assertThrows(NoSuchConfigFileException.class, () -> TestConfigs.open(this.directory.resolve("missing.json"), ConfigType.JSON));
+    }
+
+    @Test
+    void invalidUtf8IsAnEncodingError() throws IOException {
+        Path path = this.directory.resolve("latin1.json");
+        Files.write(path, new byte[] {'{', '"', 'a', '"', ':', '"', (byte) 0xE9, '"', '}'});
+
+        assertThrows(ConfigFileEncodingException.class, () -> TestConfigs.open(path, ConfigType.JSON));
+    }
+
+    private Config fixture(String name, ConfigType type) throws URISyntaxException {
+        return TestConfigs.open(Path.of(getClass().getResource("/loader/" + name).toURI()), type);
+    }
+
+}
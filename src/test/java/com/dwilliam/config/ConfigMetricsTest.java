@@ -0,0 +1,137 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigMetricsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrentReadsAreNotLost() throws Exception {
+        Config config = TestConfigs.load(this.directory, "{\"port\": 80, \"name\": \"a\"}");
+        ConfigMetrics metrics = config.metrics();
+        ConfigValues values = config.values();
+        int slot = values.slot("port");
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 50_000; j++) metrics.read(values, slot);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(Map.of("port", 400_000L), metrics.reads());
+        assertEquals(400_000L, metrics.getReads());
+        assertEquals(List.of("name"), metrics.unusedKeys());
+    }
+
+    @Test
+    void readsFromFinishedThreadsAreKept() throws Exception {
+        Config config = TestConfigs.load(this.directory, "{\"port\": 80}");
+        ConfigMetrics metrics = config.metrics();
+        ConfigValues values = config.values();
+        int slot = values.slot("port");
+        for (int i = 0; i < 200; i++) {
+            if (i == 100) assertEquals(Map.of("port", 10_000L), metrics.reads());
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 100; j++) metrics.read(values, slot);
+            });
+            thread.start();
+            thread.join();
+        }
+
+        assertEquals(Map.of("port", 20_000L), metrics.reads());
+    }
+
+    @Test
+    void readsAreKeptAcrossReloads() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"port\": 80, \"name\": \"a\"}");
+        ConfigMetrics metrics = config.metrics();
+        ConfigValues first = config.values();
+        metrics.read(first, first.slot("port"));
+        metrics.read(first, first.slot("port"));
+
+        Files.writeString(config.path(), "{\"port\": 81, \"name\": \"b\", \"host\": \"h\"}");
+        config.reload();
+        ConfigValues second = config.values();
+        metrics.read(second, second.slot("port"));
+        metrics.read(second, second.slot("name"));
+
+        assertEquals(Map.of("port", 3L, "name", 1L), metrics.reads());
+        assertEquals(List.of("host"), metrics.unusedKeys());
+    }
+
+    @Test
+    void elementReadsCountAgainstTheirArray() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"hosts\": [\"a\", \"b\"]}");
+        ConfigMetrics metrics = config.metrics();
+        ConfigValues values = config.values();
+        metrics.read(values, values.slot("hosts[0]"));
+        metrics.read(values, values.slot("hosts[1]"));
+        metrics.read(values, values.slot("missing"));
+
+        assertEquals(Map.of("hosts", 2L), metrics.reads());
+        assertEquals(1, metrics.misses());
+    }
+
+    @Test
+    void loadTimeIsSplitIntoParseAndFlatten() throws IOException {
+        ConfigMetrics metrics = TestConfigs.load(this.directory, "{}").metrics();
+        metrics.load(100, 30);
+        metrics.load(60, 20);
+
+        assertEquals(2, metrics.loads() - (Configs.METRICS ? 1 : 0));
+        assertTrue(metrics.maxLoadTime().compareTo(Duration.ofNanos(100)) >= 0);
+        assertEquals(metrics.loadTime(), metrics.parseTime().plus(metrics.flattenTime()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Configs.PROP_CONFIG_METRICS, matches = "true")
+    void handleGetsAreCountedLikeGetters() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"port\": 80, \"enabled\": true, \"name\": \"a\"}");
+        IntKey port = config.intKey("port");
+        BooleanKey enabled = config.booleanKey("enabled");
+        ConfigKey<String> name = config.key("name", String.class);
+        ConfigKey<String> missing = config.key("missing", String.class);
+
+        for (int i = 0; i < 3; i++) port.getAsInt();
+        enabled.getAsBoolean();
+        enabled.isPresent();
+        config.getString("name");
+        name.get();
+        missing.getOrElse("x");
+
+        assertEquals(Map.of("port", 3L, "enabled", 2L, "name", 2L), config.metrics().reads());
+        assertEquals(1, config.metrics().misses());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Configs.PROP_CONFIG_METRICS, matches = "true")
+    void loadsRecordParseAndFlattenTimes() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"pool\": {\"size\": 4, \"hosts\": [\"a\", \"b\"]}}");
+        config.reload();
+        ConfigMetrics metrics = config.metrics();
+
+        assertEquals(2, metrics.loads());
+        assertTrue(metrics.parseTime().compareTo(Duration.ZERO) > 0);
+        assertTrue(metrics.flattenTime().compareTo(Duration.ZERO) > 0);
+        assertEquals(metrics.loadTime(), metrics.parseTime().plus(metrics.flattenTime()));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigOverrideException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigOverridesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void bootstrapNamesAreNotMatched() {
+        TypedValues.Builder values = values();
+        Properties properties = new Properties();
+        properties.setProperty("app-config-type", "YAML");
+        properties.setProperty("app-db-port", "9");
+        List<String> errors = new ArrayList<>();
+
+        ConfigOverrides.of("APP_", "app-").apply(values, Map.of("APP_CONFIG_PATH", "other.conf", "APP_DB_ENABLED", "false"), properties, errors);
+
+        assertEquals(List.of(), errors);
+        assertEquals("application.conf", values.value(values.slot("config.path")));
+        assertEquals("JSON", values.value(values.slot("config.type")));
+        assertEquals(9, values.value(values.slot("db.port")));
+        assertEquals(false, values.value(values.slot("db.enabled")));
+    }
+
+    @Test
+    void collectsEveryCoercionFailure() {
+        TypedValues.Builder values = values();
+        List<String> errors = new ArrayList<>();
+
+        ConfigOverrides.defaults().apply(values, Map.of("APP_DB_PORT", "big", "APP_DB_ENABLED", "maybe"), new Properties(), errors);
+
+        assertEquals(2, errors.size());
+        assertTrue(errors.contains("db.port : Cannot convert \"big\" to Integer"), errors.toString());
+        assertTrue(errors.contains("db.enabled : Cannot convert \"maybe\" to Boolean"), errors.toString());
+        assertEquals(5432, values.value(values.slot("db.port")));
+    }
+
+    @Test
+    void areOptIn() throws IOException {
+        Path path = this.directory.resolve("db.json");
+        Files.writeString(path, "{\"db\": {\"port\": 5432}}");
+        System.setProperty("app.db.port", "big");
+        try {
+            assertSame(ConfigOverrides.NONE, Configs.overrides());
+            assertEquals(5432, TestConfigs.open(path, ConfigType.JSON).getInt("db.port", 0));
+
+            Configs.setOverrides(ConfigOverrides.defaults());
+            ConfigOverrideException error = assertThrows(ConfigOverrideException.class, () -> TestConfigs.open(path, ConfigType.JSON));
+            assertEquals(List.of("db.port : Cannot convert \"big\" to Integer"), error.errors());
+
+            System.setProperty("app.db.port", "6543");
+            assertEquals(6543, TestConfigs.open(path, ConfigType.JSON).getInt("db.port", 0));
+        }
+        finally {
+            Configs.setOverrides(ConfigOverrides.NONE);
+            System.clearProperty("app.db.port");
+        }
+    }
+
+    private static TypedValues.Builder values() {
+        TypedValues.Builder values = new TypedValues.Builder();
+        values.put("config.path", "application.conf");
+        values.put("config.type", "JSON");
+        values.put("db.port", 5432);
+        values.put("db.enabled", true);
+        return values;
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigReporterTest {
+
+    private static final Path PATH = Paths.get("app.json");
+
+    @TempDir
+    Path directory;
+
+    private final ConfigReporter reporter = Configs.reporter();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @AfterEach
+    void restoreReporter() {
+        Configs.setReporter(this.reporter);
+    }
+
+    @Test
+    void defaultRedactionsHideSecretKeys() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("db.password", "hunter2");
+        values.put("db.host", "localhost");
+        values.put("service.apiKey", "k1");
+        values.put("service.api_key", "k2");
+        values.put("oauth.ClientSecret", "s");
+        values.put("auth.token", "t");
+        values.put("tls.privateKey", "p");
+        console(true, ConfigReporter.DEFAULT_REDACTIONS).report(report(values, 2_000_000));
+
+        assertEquals(List.of("[CONFIG] : db.password = ******",
+                             "[CONFIG] : db.host = localhost",
+                             "[CONFIG] : service.apiKey = ******",
+                             "[CONFIG] : service.api_key = ******",
+                             "[CONFIG] : oauth.ClientSecret = ******",
+                             "[CONFIG] : auth.token = ******",
+                             "[CONFIG] : tls.privateKey = ******",
+                             "[CONFIG] : app.json : 7 values loaded in 2 ms"), lines(this.out));
+        assertEquals(List.of(), lines(this.err));
+    }
+
+    @Test
+    void customRedactionsReplaceTheDefaults() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("db.password", "hunter2");
+        values.put("internal.host", "10.0.0.1");
+        console(true, List.of(Pattern.compile("^internal\\."))).report(report(values, 0));
+
+        assertEquals(List.of("[CONFIG] : db.password = hunter2",
+                             "[CONFIG] : internal.host = ******",
+                             "[CONFIG] : app.json : 2 values loaded in 0 ms"), lines(this.out));
+    }
+
+    @Test
+    void summaryPrintsOneLinePerLoad() {
+        console(false, ConfigReporter.DEFAULT_REDACTIONS).report(report(Map.of("db.password", "hunter2", "db.host", "localhost"), 5_000_000));
+
+        assertEquals(List.of("[CONFIG] : app.json : 2 values loaded in 5 ms"), lines(this.out));
+    }
+
+    @Test
+    void errorsGoToTheErrorStream() {
+        console(true, List.of()).error(PATH, "reload failed, keeping previous values", new IllegalStateException("broken"));
+
+        assertEquals(List.of(), lines(this.out));
+        assertEquals(List.of("[CONFIG] : app.json : reload failed, keeping previous values : broken"), lines(this.err));
+    }
+
+    @Test
+    void defaultErrorRoutingPrintsToSystemErr() {
+        PrintStream previous = System.err;
+        System.setErr(new PrintStream(this.err, true, StandardCharsets.UTF_8));
+        try {
+            ConfigReporter.NONE.error(PATH, "watch failed", new IllegalStateException("gone"));
+        }
+        finally {
+            System.setErr(previous);
+        }
+
+        assertEquals(List.of("[CONFIG] : app.json : watch failed : gone"), lines(this.err));
+    }
+
+    @Test
+    void asyncHandsReportsAndErrorsToOneReporterThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        ConfigReporter async = ConfigReporter.async(new ConfigReporter() {
+
+            @Override
+            public void report(ConfigReport report) {
+                await(release);
+                calls.add(Thread.currentThread().getName() + " report " + report.size());
+                done.countDown();
+            }
+
+            @Override
+            public void error(Path path, String message, RuntimeException error) {
+                calls.add(Thread.currentThread().getName() + " error " + message);
+                done.countDown();
+            }
+
+        });
+
+        async.report(report(Map.of("a", 1), 0));
+        async.error(PATH, "failed", new IllegalStateException());
+        async.report(report(Map.of("a", 1, "b", 2), 0));
+        assertTrue(calls.isEmpty());
+        release.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("config-reporter report 1", "config-reporter error failed", "config-reporter report 2"), calls);
+    }
+
+    @Test
+    void onlyLoggedConfigsAreReported() throws IOException {
+        List<ConfigReport> reports = Collections.synchronizedList(new ArrayList<>());
+        Configs.setReporter(reports::add);
+        Path path = this.directory.resolve("reported.json");
+        Files.writeString(path, "{\"port\": 80, \"db\": {\"password\": \"x\"}}");
+
+        new Config(path, ConfigType.JSON, false, false, false, null);
+        assertEquals(List.of(), reports);
+
+        Config config = new Config(path, ConfigType.JSON, true, false, false, null);
+        config.reload();
+        assertEquals(2, reports.size());
+        assertEquals(path, reports.get(0).path());
+        assertEquals(ConfigType.JSON, reports.get(0).type());
+        assertEquals(2, reports.get(1).size());
+    }
+
+    private ConfigReporter console(boolean values, List<Pattern> redactions) {
+        return new ConsoleReporter(new PrintStream(this.out, true, StandardCharsets.UTF_8), new PrintStream(this.err, true, StandardCharsets.UTF_8),
+                                   values, redactions);
+    }
+
+    private static ConfigReport report(Map<String, Object> values, long nanos) {
+        return new ConfigReport(PATH, ConfigType.JSON, values, nanos);
+    }
+
+    private static List<String> lines(ByteArrayOutputStream stream) {
+        String text = stream.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split(System.lineSeparator()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
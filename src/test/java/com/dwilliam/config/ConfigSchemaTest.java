@@ -0,0 +1,148 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigSchemaException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigSchemaTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void valuesAreCoercedToTheDeclaredTypes() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder()
+                .require("port", int.class)
+                .require("big", Long.class)
+                .require("ratio", Double.class)
+                .require("scale", double.class)
+                .require("enabled", Boolean.class)
+                .require("name", String.class)
+                .require("flag", String.class)
+                .require("separator", char.class)
+                .require("timeout", Duration.class)
+                .require("delay", Duration.class)
+                .require("unit", TimeUnit.class)
+                .requireBytes("buffer")
+                .requireBytes("limit")
+                .build();
+        Config config = TestConfigs.load(this.directory, "{\"port\": \"8080\", \"big\": \"9000000000\", \"ratio\": \"0.5\", \"scale\": 2, \"enabled\": \" TRUE \", "
+                                                         + "\"name\": 42, \"flag\": false, \"separator\": \";\", \"timeout\": \"1.5s\", \"delay\": 250, "
+                                                         + "\"unit\": \"SECONDS\", \"buffer\": \"64KB\", \"limit\": 1024}", schema);
+
+        assertEquals(Integer.valueOf(8080), config.get("port"));
+        assertEquals(Long.valueOf(9_000_000_000L), config.get("big"));
+        assertEquals(Double.valueOf(0.5), config.get("ratio"));
+        assertEquals(Double.valueOf(2.0), config.get("scale"));
+        assertEquals(Boolean.TRUE, config.get("enabled"));
+        assertEquals("42", config.get("name"));
+        assertEquals("false", config.get("flag"));
+        assertEquals(Character.valueOf(';'), config.get("separator"));
+        assertEquals(Duration.ofMillis(1500), config.get("timeout"));
+        assertEquals(Duration.ofMillis(250), config.get("delay"));
+        assertEquals(TimeUnit.SECONDS, config.get("unit"));
+        assertEquals(Long.valueOf(65_536L), config.get("buffer"));
+        assertEquals(Long.valueOf(1024L), config.get("limit"));
+    }
+
+    @Test
+    void everyFailedCoercionIsReported() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder()
+                .require("port", Integer.class)
+                .require("count", Integer.class)
+                .require("enabled", Boolean.class)
+                .require("separator", Character.class)
+                .require("timeout", Duration.class)
+                .require("unit", TimeUnit.class)
+                .requireBytes("buffer")
+                .build();
+        ConfigSchemaException error = assertThrows(ConfigSchemaException.class, () -> TestConfigs.load(this.directory,
+                "{\"port\": 3000000000, \"count\": \"many\", \"enabled\": \"yes\", \"separator\": \";;\", \"timeout\": \"5 weeks\", "
+                + "\"unit\": \"FORTNIGHTS\", \"buffer\": -1}", schema));
+
+        assertEquals(List.of("port : integer out of range : 3000000000",
+                             "count : expected Integer but was String many",
+                             "enabled : expected Boolean but was String yes",
+                             "separator : expected Character but was String ;;",
+                             "timeout : unknown duration unit : 5 weeks",
+                             "unit : no TimeUnit constant FORTNIGHTS",
+                             "buffer : negative size : -1"), error.errors());
+    }
+
+    @Test
+    void missingRequiredKeysAreReported() {
+        ConfigSchema schema = ConfigSchema.builder().require("host", String.class).require("port", int.class).optional("name", String.class).build();
+        ConfigSchemaException error = assertThrows(ConfigSchemaException.class, () -> TestConfigs.load(this.directory, "{\"port\": 80}", schema));
+
+        assertEquals(List.of("host : missing"), error.errors());
+    }
+
+    @Test
+    void defaultsFillMissingKeysOnly() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder()
+                .optional("port", int.class, 8080)
+                .optional("timeout", Duration.class, Duration.ofSeconds(5))
+                .optional("name", String.class, "default")
+                .optionalBytes("buffer", 4096)
+                .optional("host", String.class)
+                .build();
+        Config config = TestConfigs.load(this.directory, "{\"name\": \"app\"}", schema);
+
+        assertEquals(Integer.valueOf(8080), config.get("port"));
+        assertEquals(Duration.ofSeconds(5), config.get("timeout"));
+        assertEquals("app", config.get("name"));
+        assertEquals(Long.valueOf(4096L), config.get("buffer"));
+        assertFalse(config.containsKey("host"));
+    }
+
+    @Test
+    void strictSchemasRejectUndeclaredKeys() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder().require("port", int.class).optional("hosts", ConfigArray.class).strict().build();
+        Config config = TestConfigs.load(this.directory, "{\"port\": 80, \"hosts\": [\"a\", \"b\"]}", schema);
+        assertEquals(2, config.getArray("hosts").size());
+
+        ConfigSchemaException error = assertThrows(ConfigSchemaException.class, () -> TestConfigs.load(this.directory,
+                "{\"port\": 80, \"debug\": true, \"pool\": {\"size\": 4}}", schema));
+        assertEquals(List.of("debug : not declared in schema", "pool.size : not declared in schema"), error.errors());
+
+        Config lenient = TestConfigs.load(this.directory, "{\"port\": 80, \"debug\": true}", ConfigSchema.builder().require("port", int.class).build());
+        assertEquals(Boolean.TRUE, lenient.get("debug"));
+    }
+
+    @Test
+    void unsupportedTypesAndNullDefaultsAreRejectedByTheBuilder() {
+        assertThrows(IllegalArgumentException.class, () -> ConfigSchema.builder().require("list", List.class));
+        assertThrows(NullPointerException.class, () -> ConfigSchema.builder().optional("port", Integer.class, null));
+    }
+
+    @Test
+    void failedReloadKeepsThePreviousSnapshot() throws IOException {
+        ConfigSchema schema = ConfigSchema.builder().require("port", int.class).optional("timeout", Duration.class, Duration.ofSeconds(1)).build();
+        Config config = TestConfigs.load(this.directory, "{\"port\": \"80\"}", schema);
+        long version = config.version();
+
+        Files.writeString(config.path(), "{\"port\": \"eighty\", \"timeout\": \"2s\"}");
+        ConfigSchemaException error = assertThrows(ConfigSchemaException.class, config::reload);
+
+        assertEquals(List.of("port : expected Integer but was String eighty"), error.errors());
+        assertEquals(version, config.version());
+        assertEquals(Integer.valueOf(80), config.get("port"));
+        assertEquals(Duration.ofSeconds(1), config.get("timeout"));
+
+        Files.writeString(config.path(), "{\"port\": 81}");
+        config.reload();
+        assertEquals(Integer.valueOf(81), config.get("port"));
+    }
+
+}
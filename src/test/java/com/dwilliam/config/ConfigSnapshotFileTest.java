@@ -0,0 +1,89 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileSnapshotParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSnapshotFileTest {
+
+    private static final String JSON = "{\"flag\": true, \"off\": false, \"int\": 42, \"long\": 9000000000, \"double\": 1.5,"
+                                       + " \"string\": \"héllo\", \"nothing\": null,"
+                                       + " \"big\": 123456789012345678901234567890, \"decimal\": 0.1000000000000000055511151231257827,"
+                                       + " \"nested\": {\"a\": {\"b\": \"c\"}}, \"numbers\": [1, 2, 3], \"mixed\": [\"a\", 1, null, true],"
+                                       + " \"objects\": [{\"name\": \"x\"}, {\"name\": \"y\"}]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotRoundTripsEveryValue() throws IOException {
+        Config config = TestConfigs.load(this.directory, JSON);
+        Path snapshot = this.directory.resolve("config.snapshot");
+        config.writeSnapshot(snapshot);
+        Config mapped = Config.openSnapshot(snapshot);
+
+        assertEquals(config.keysUnder(""), mapped.keysUnder(""));
+        for (String tree : config.keysUnder("")) assertEquals((Object) config.get(tree), mapped.get(tree), tree);
+        assertTrue(mapped.getBoolean("flag", false));
+        assertEquals(42, mapped.getInt("int", 0));
+        assertEquals(9000000000L, mapped.getLong("long", 0));
+        assertEquals(1.5, mapped.getDouble("double", 0));
+        assertEquals("héllo", mapped.getString("string"));
+        assertNull(mapped.get("nothing"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), mapped.getBigInteger("big"));
+        assertEquals(config.getBigDecimal("decimal"), mapped.getBigDecimal("decimal"));
+        assertEquals("c", mapped.getString("nested.a.b"));
+        assertArrayEquals(new int[] {1, 2, 3}, mapped.getIntArray("numbers"));
+        assertEquals(2, mapped.getInt("numbers[1]", 0));
+        assertEquals("y", mapped.getString("objects[1].name"));
+        assertEquals(List.of("nested.a.b"), mapped.keysUnder("nested"));
+    }
+
+    @Test
+    void rewritingASnapshotIsStable() throws IOException {
+        Path first = this.directory.resolve("first.snapshot");
+        Path second = this.directory.resolve("second.snapshot");
+        TestConfigs.load(this.directory, JSON).writeSnapshot(first);
+        Config.openSnapshot(first).writeSnapshot(second);
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path text = this.directory.resolve("text.snapshot");
+        Files.writeString(text, "{\"not\": \"a snapshot\"}");
+        Path truncated = this.directory.resolve("truncated.snapshot");
+        TestConfigs.load(this.directory, JSON).writeSnapshot(truncated);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, ConfigSnapshotFile.HEADER + 2));
+
+        assertThrows(ConfigFileSnapshotParseException.class, () -> Config.openSnapshot(text));
+        assertThrows(ConfigFileSnapshotParseException.class, () -> Config.openSnapshot(truncated));
+    }
+
+    @Test
+    void bigDecimalsKeepTheirScale() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"price\": 10.50}");
+        Path snapshot = this.directory.resolve("price.snapshot");
+        config.writeSnapshot(snapshot);
+
+        assertEquals(config.getBigDecimal("price"), Config.openSnapshot(snapshot).getBigDecimal("price"));
+        assertEquals(0, new BigDecimal("10.5").compareTo(Config.openSnapshot(snapshot).getBigDecimal("price")));
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void durationsAreParsed() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"ns\": \"10ns\", \"ms\": \"250ms\", \"s\": \"5s\", \"m\": \"1m\", \"h\": \"1.5h\", \"d\": \"2d\", "
+                                                         + "\"iso\": \"PT5S\", \"plain\": \"40\", \"number\": 1500}");
+
+        assertEquals(Duration.ofNanos(10), config.getDuration("ns"));
+        assertEquals(Duration.ofMillis(250), config.getDuration("ms"));
+        assertEquals(Duration.ofSeconds(5), config.getDuration("s"));
+        assertEquals(Duration.ofMinutes(1), config.getDuration("m"));
+        assertEquals(Duration.ofMinutes(90), config.getDuration("h"));
+        assertEquals(Duration.ofDays(2), config.getDuration("d"));
+        assertEquals(Duration.ofSeconds(5), config.getDuration("iso"));
+        assertEquals(Duration.ofMillis(40), config.getDuration("plain"));
+        assertEquals(Duration.ofMillis(1500), config.getDuration("number"));
+        assertNull(config.getDuration("missing"));
+        assertEquals(Duration.ofSeconds(1), config.getDurationOrElse("missing", Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void sizesAreParsedInPowersOf1024() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"b\": \"10b\", \"k\": \"512k\", \"mb\": \"64MB\", \"gib\": \"1.5GiB\", \"t\": \"1T\", \"number\": 2048}");
+
+        assertEquals(Long.valueOf(10), config.getBytes("b"));
+        assertEquals(Long.valueOf(512L << 10), config.getBytes("k"));
+        assertEquals(Long.valueOf(64L << 20), config.getBytes("mb"));
+        assertEquals(Long.valueOf(3L << 29), config.getBytes("gib"));
+        assertEquals(Long.valueOf(1L << 40), config.getBytes("t"));
+        assertEquals(2048, config.getBytes("number", 0));
+        assertNull(config.getBytes("missing"));
+        assertEquals(8192, config.getBytes("missing", 8192));
+    }
+
+    @Test
+    void enumsMatchConstantNamesExactly() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"exact\": \"SECONDS\", \"padded\": \" MINUTES \", \"lower\": \"seconds\", \"number\": 3}");
+
+        assertEquals(TimeUnit.SECONDS, config.getEnumValue("exact", TimeUnit.class));
+        assertEquals(TimeUnit.MINUTES, config.getEnumValue("padded", TimeUnit.class));
+        assertThrows(ClassCastException.class, () -> config.getEnumValue("lower", TimeUnit.class));
+        assertThrows(ClassCastException.class, () -> config.getEnumValue("number", TimeUnit.class));
+        assertEquals(TimeUnit.HOURS, config.getEnumValue("lower", TimeUnit.HOURS, TimeUnit.class));
+        assertNull(config.getEnumValue("missing", TimeUnit.class));
+    }
+
+    @Test
+    void invalidValuesRethrowTheCachedFailure() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"timeout\": \"5 weeks\", \"buffer\": \"-1KB\", \"unit\": \"FORTNIGHTS\"}");
+
+        ClassCastException timeout = assertThrows(ClassCastException.class, () -> config.getDuration("timeout"));
+        assertEquals("Cannot convert timeout value : unknown duration unit : 5 weeks", timeout.getMessage());
+        assertSame(timeout, assertThrows(ClassCastException.class, () -> config.getDuration("timeout")));
+        assertEquals(Duration.ZERO, config.getDurationOrElse("timeout", Duration.ZERO));
+
+        ClassCastException buffer = assertThrows(ClassCastException.class, () -> config.getBytes("buffer"));
+        assertEquals("Cannot convert buffer value : negative size : -1KB", buffer.getMessage());
+        assertSame(buffer, assertThrows(ClassCastException.class, () -> config.getBytes("buffer")));
+        assertEquals(-1, config.getBytes("buffer", -1));
+
+        ClassCastException unit = assertThrows(ClassCastException.class, () -> config.getEnumValue("unit", TimeUnit.class));
+        assertSame(unit, assertThrows(ClassCastException.class, () -> config.getEnumValue("unit", TimeUnit.class)));
+    }
+
+    @Test
+    void parsedValuesFollowReloads() throws IOException {
+        Config config = TestConfigs.load(this.directory, "{\"timeout\": \"5s\", \"buffer\": \"bad\"}");
+        assertEquals(Duration.ofSeconds(5), config.getDuration("timeout"));
+        assertNull(config.getDuration("retry"));
+        assertThrows(ClassCastException.class, () -> config.getBytes("buffer"));
+
+        Files.writeString(config.path(), "{\"timeout\": \"10s\", \"retry\": \"1s\", \"buffer\": \"4k\"}");
+        config.reload();
+
+        assertEquals(Duration.ofSeconds(10), config.getDuration("timeout"));
+        assertEquals(Duration.ofSeconds(1), config.getDuration("retry"));
+        assertEquals(Long.valueOf(4096), config.getBytes("buffer"));
+    }
+
+}
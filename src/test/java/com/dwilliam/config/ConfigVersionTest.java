@@ -0,0 +1,82 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigVersionTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void versionsKeepTheirValues() throws IOException {
+        Path path = this.directory.resolve("version.json");
+        Config config = TestConfigs.open(path, "{\"port\": 1, \"name\": \"a\"}", ConfigType.JSON);
+        ConfigVersion first = config.snapshot();
+
+        Files.writeString(path, "{\"port\": 2}");
+        config.reload();
+
+        assertEquals(1, first.version());
+        assertEquals(1, first.getInt("port", 0));
+        assertEquals("a", first.getString("name"));
+        assertSame(config, first.source());
+        assertEquals(2, config.snapshot().getInt("port", 0));
+        assertEquals(List.of(2L, 1L), versions(config));
+    }
+
+    @Test
+    void rollbackKeepsTheHistory() throws IOException {
+        Path path = this.directory.resolve("rollback.json");
+        Config config = TestConfigs.open(path, "{\"port\": 1}", ConfigType.JSON);
+        Files.writeString(path, "{\"port\": 2}");
+        config.reload();
+        Files.writeString(path, "{\"port\": 3}");
+        config.reload();
+
+        assertEquals(4, config.rollback().version());
+        assertEquals(2, config.getInt("port", 0));
+        assertEquals(5, config.rollback().version());
+        assertEquals(1, config.getInt("port", 0));
+        assertThrows(IllegalStateException.class, config::rollback);
+
+        assertEquals(6, config.rollback(3).version());
+        assertEquals(3, config.getInt("port", 0));
+        assertEquals(List.of(6L, 5L, 4L, 3L), versions(config));
+        assertEquals(7, config.rollback().version());
+        assertEquals(2, config.getInt("port", 0));
+        assertThrows(IllegalArgumentException.class, () -> config.rollback(1));
+    }
+
+    @Test
+    void rollbackNotifiesListeners() throws IOException {
+        Path path = this.directory.resolve("listened.json");
+        Config config = TestConfigs.open(path, "{\"port\": 1}", ConfigType.JSON);
+        List<Object> values = new ArrayList<>();
+        config.addListener("port", change -> values.add(change.newValue()), Runnable::run);
+        Files.writeString(path, "{\"port\": 2}");
+        config.reload();
+
+        config.rollback();
+        config.rollback(2);
+
+        assertEquals(List.of(2, 1, 2), values);
+    }
+
+    private static List<Long> versions(Config config) {
+        List<Long> versions = new ArrayList<>();
+        for (ConfigVersion version : config.history()) versions.add(version.version());
+        return versions;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    private final ConfigReporter reporter = Configs.reporter();
+
+    @AfterEach
+    void restoreReporter() {
+        Configs.setReporter(this.reporter);
+    }
+
+    @Test
+    void reloadsWhenTheFileChanges() throws Exception {
+        Path path = this.directory.resolve("watched.json");
+        Files.writeString(path, "{\"port\": 80}");
+        Config config = TestConfigs.open(path, ConfigType.JSON).watch(Duration.ofMillis(20));
+        try {
+            Files.writeString(path, "{\"port\": 8080}");
+            assertTrue(await(() -> config.getInt("port", 0) == 8080), "change was not picked up");
+        }
+        finally {
+            config.unwatch();
+        }
+    }
+
+    @Test
+    void reloadFailuresGoToTheReporter() throws Exception {
+        BlockingQueue<String> errors = new ArrayBlockingQueue<>(16);
+        Configs.setReporter(new ConfigReporter() {
+
+            @Override
+            public void report(ConfigReport report) {
+            }
+
+            @Override
+            public void error(Path path, String message, RuntimeException error) {
+                errors.offer(path.getFileName() + " : " + message);
+            }
+
+        });
+        Path path = this.directory.resolve("broken.json");
+        Files.writeString(path, "{\"port\": 80}");
+        Config config = TestConfigs.open(path, ConfigType.JSON).watch(Duration.ofMillis(20));
+        try {
+            Files.writeString(path, "{\"port\": ");
+            String error = errors.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            assertNotNull(error, "reload failure was not reported");
+            assertEquals("broken.json : reload failed, keeping previous values", error);
+            assertEquals(80, config.getInt("port", 0));
+        }
+        finally {
+            config.unwatch();
+        }
+    }
+
+    static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) return true;
+            Thread.sleep(10);
+        }
+        return condition.getAsBoolean();
+    }
+
+}
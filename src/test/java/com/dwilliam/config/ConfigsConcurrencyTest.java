@@ -0,0 +1,174 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigsConcurrencyTest {
+
+    private static final long RUN_MILLIS = 500;
+
+    @TempDir
+    Path directory;
+
+    private volatile int sink;
+
+    @Test
+    void readsStayConsistentWhileConfigsLoadAndReload() throws Exception {
+        Path shared = write("shared", 0);
+        Config config = Configs.init(shared, ConfigType.JSON, false);
+        String name = Configs.configName(shared.toString());
+
+        int readers = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < readers; i++) {
+            threads.add(thread(failures, () -> {
+                IntKey key = config.intKey("pair[0]");
+                while (running.get()) {
+                    ConfigArray pair = Configs.of(name).getArray("pair");
+                    assertEquals(pair.getInt(0), pair.getInt(1), "torn snapshot");
+                    assertTrue(key.getAsInt() >= 0);
+                    assertNotNull(Configs.of());
+                    reads.increment();
+                }
+            }));
+        }
+        threads.add(thread(failures, () -> {
+            for (int version = 1; running.get(); version++) {
+                write("shared", version);
+                config.reload();
+            }
+        }));
+        threads.add(thread(failures, () -> {
+            for (int index = 0; running.get(); index++) {
+                Path other = write("other" + index, index);
+                Config loaded = Configs.init(other, ConfigType.JSON, false);
+                assertEquals(index, Configs.of(Configs.configName(other.toString())).getInt("pair[1]", -1));
+                assertEquals(loaded, Configs.of(Configs.configName(other.toString())));
+            }
+        }));
+
+        for (Thread thread : threads) thread.start();
+        Thread.sleep(RUN_MILLIS);
+        running.set(false);
+        for (Thread thread : threads) thread.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertTrue(failures.isEmpty(), () -> "concurrent failures : " + failures);
+        assertTrue(reads.sum() > 0);
+        assertEquals(config, Configs.of(name));
+    }
+
+    @Test
+    void concurrentReloadsPublishTheLatestFile() throws Exception {
+        Path path = write("reloaded", 0);
+        Config config = TestConfigs.open(path, ConfigType.JSON);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + RUN_MILLIS;
+        for (int i = 0; i < 4; i++) {
+            Path temp = this.directory.resolve("reloaded" + i + ".tmp");
+            int writer = i;
+            threads.add(thread(failures, () -> {
+                for (int version = writer; System.currentTimeMillis() < deadline; version += 4) {
+                    Files.writeString(temp, "{\"value\": " + version + "}");
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    config.reload();
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        assertTrue(failures.isEmpty(), () -> "concurrent failures : " + failures);
+        assertEquals(TestConfigs.open(path, ConfigType.JSON).getInt("value", -1), config.getInt("value", -2));
+    }
+
+    @Test
+    void readThroughputScalesWithThreads() throws Exception {
+        Path path = write("scaling", 7);
+        Config config = Configs.init(path, ConfigType.JSON, false);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        double single = throughput(config, 1);
+        double parallel = throughput(config, cores);
+
+        if (cores >= 4) assertTrue(parallel > single * cores * 0.25, () -> "reads do not scale with threads : " + single + " ops/ms on 1, " + parallel + " on " + cores);
+    }
+
+    private double throughput(Config config, int threads) throws InterruptedException {
+        LongAdder reads = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(threads);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(thread(failures, () -> {
+                ready.countDown();
+                long count = 0;
+                int sum = 0;
+                while (running.get()) {
+                    sum += config.getInt("pair[0]", 0) + config.getInt("value", 0);
+                    count++;
+                }
+                reads.add(count);
+                this.sink = sum;
+            }));
+        }
+        for (Thread worker : workers) worker.start();
+        ready.await();
+        long start = System.nanoTime();
+        Thread.sleep(RUN_MILLIS);
+        running.set(false);
+        long elapsed = System.nanoTime() - start;
+        for (Thread worker : workers) worker.join();
+        assertTrue(failures.isEmpty(), () -> "concurrent failures : " + failures);
+        return reads.sum() / (elapsed / 1_000_000.0);
+    }
+
+    private Path write(String name, int version) throws IOException {
+        Path path = this.directory.resolve(name + ".json");
+        Path temp = this.directory.resolve(name + ".tmp");
+        Files.writeString(temp, "{\"value\": " + version + ", \"pair\": [" + version + ", " + version + "]}");
+        return Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Thread thread(Queue<Throwable> failures, ThrowingRunnable body) {
+        Thread thread = new Thread(() -> {
+            try {
+                body.run();
+            }
+            catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.dwilliam.config;
+
+import com.dwilliam.config.exception.ConfigFileJsonParseException;
+import com.dwilliam.config.exception.ConfigFileYamlParseException;
+import com.dwilliam.config.exception.ConfigInitException;
+import com.dwilliam.config.exception.NoSuchConfigException;
+import com.dwilliam.config.exception.NoSuchConfigFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigsTest {
+
+    @TempDir
+    Path directory;
+
+    private String path;
+    private String log;
+
+    @BeforeEach
+    void saveProperties() {
+        this.path = System.getProperty(Configs.PROP_CONFIG_PATH);
+        this.log = System.getProperty(Configs.PROP_CONFIG_LOG);
+        System.setProperty(Configs.PROP_CONFIG_LOG, "false");
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        restore(Configs.PROP_CONFIG_PATH, this.path);
+        restore(Configs.PROP_CONFIG_LOG, this.log);
+    }
+
+    @Test
+    void everyDefaultInitRebindsTheDefault() throws IOException {
+        List<Supplier<Config>> inits = List.of(Configs::init, () -> Configs.init(false), () -> Configs.init(ConfigType.JSON),
+                                               () -> Configs.init(ConfigType.JSON, false));
+        for (int i = 0; i < inits.size(); i++) {
+            useAsDefault("default" + i + ".json", "{\"init\": " + i + "}");
+            Config config = inits.get(i).get();
+
+            assertSame(config, Configs.of(), "init " + i);
+            assertEquals(i, Configs.of().getInt("init", -1));
+        }
+    }
+
+    @Test
+    void failedDefaultInitKeepsThePreviousDefault() throws IOException {
+        useAsDefault("good.json", "{\"port\": 80}");
+        Config config = Configs.init(false);
+
+        System.setProperty(Configs.PROP_CONFIG_PATH, this.directory.resolve("missing.json").toString());
+        assertThrows(NoSuchConfigFileException.class, () -> Configs.init(false));
+        assertSame(config, Configs.of());
+
+        useAsDefault("broken.json", "{\"port\": ");
+        assertThrows(ConfigFileJsonParseException.class, Configs::init);
+        assertThrows(ConfigFileJsonParseException.class, () -> Configs.init(ConfigType.JSON, false));
+        assertSame(config, Configs.of());
+        assertEquals(80, Configs.of().getInt("port", 0));
+    }
+
+    @Test
+    void initAllCollectsEveryError() throws IOException {
+        List<Path> paths = List.of(write("good.json", "{\"port\": 80}"), this.directory.resolve("missing.json"), write("broken.json", "{\"port\": "),
+                                   write("broken.yml", "port: [80"));
+
+        ConfigInitException error = assertThrows(ConfigInitException.class, () -> Configs.initAll(paths));
+
+        assertEquals(3, error.errors().size(), error.getMessage());
+        assertTrue(error.errors().get(0) instanceof NoSuchConfigFileException);
+        assertTrue(error.errors().get(1) instanceof ConfigFileJsonParseException);
+        assertTrue(error.errors().get(2) instanceof ConfigFileYamlParseException);
+        assertEquals(3, error.getSuppressed().length);
+    }
+
+    @Test
+    void initAllRegistersNothingAfterAPartialFailure() throws IOException {
+        Path good = write("registered.json", "{\"port\": 80}");
+        Path other = write("other.json", "{\"port\": 81}");
+
+        assertThrows(ConfigInitException.class, () -> Configs.initAll(List.of(good, write("bad.json", "{"), other)));
+
+        assertThrows(NoSuchConfigException.class, () -> Configs.of(Configs.configName(good.toString())));
+        assertThrows(NoSuchConfigException.class, () -> Configs.of(Configs.configName(other.toString())));
+    }
+
+    @Test
+    void initAllKeepsTheOrderOfItsPaths() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 5; i++) paths.add(write("ordered" + i + ".json", "{\"index\": " + i + "}"));
+
+        List<Config> configs = Configs.initAll(paths, reversed(paths.size()));
+
+        for (int i = 0; i < paths.size(); i++) {
+            assertEquals(paths.get(i), configs.get(i).path());
+            assertEquals(i, configs.get(i).getInt("index", -1));
+            assertSame(configs.get(i), Configs.of(Configs.configName(paths.get(i).toString())));
+        }
+    }
+
+    @Test
+    void initAllReportsErrorsInTheOrderOfItsPaths() throws IOException {
+        List<Path> paths = List.of(this.directory.resolve("first.json"), write("second.json", "{"), this.directory.resolve("third.json"));
+
+        ConfigInitException error = assertThrows(ConfigInitException.class, () -> Configs.initAll(paths, reversed(paths.size())));
+
+        assertEquals(3, error.errors().size());
+        assertTrue(error.errors().get(0) instanceof NoSuchConfigFileException);
+        assertTrue(error.errors().get(1) instanceof ConfigFileJsonParseException);
+        assertTrue(error.errors().get(2) instanceof NoSuchConfigFileException);
+        assertTrue(error.errors().get(2).getMessage().contains("third.json"), error.getMessage());
+    }
+
+    private static Executor reversed(int count) {
+        List<Runnable> tasks = new ArrayList<>();
+        return task -> {
+            tasks.add(task);
+            if (tasks.size() == count) {
+                for (int i = count - 1; i >= 0; i--) tasks.get(i).run();
+            }
+        };
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path path = this.directory.resolve(name);
+        Files.writeString(path, content);
+        return path;
+    }
+
+    private void useAsDefault(String name, String json) throws IOException {
+        System.setProperty(Configs.PROP_CONFIG_PATH, write(name, json).toString());
+    }
+
+    private static void restore(String name, String value) {
+        if (value == null) System.clearProperty(name);
+        else System.setProperty(name, value);
+    }
+
+}
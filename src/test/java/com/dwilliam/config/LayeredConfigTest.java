@@ -0,0 +1,121 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LayeredConfigTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void upperLayersWin() throws IOException {
+        Config base = TestConfigs.open(this.directory.resolve("base.json"), "{\"server\": {\"host\": \"localhost\", \"port\": 80}}", ConfigType.JSON);
+        Config local = TestConfigs.open(this.directory.resolve("local.json"), "{\"server\": {\"port\": 8080}}", ConfigType.JSON);
+        LayeredConfig config = LayeredConfig.of(base, local);
+
+        assertEquals("localhost", config.getString("server.host"));
+        assertEquals(8080, config.getInt("server.port", 0));
+        assertSame(local, config.origin("server.port"));
+        assertSame(base, config.origin("server.host"));
+    }
+
+    @Test
+    void anArrayReplacesTheLowerLayersElements() throws IOException {
+        Config base = TestConfigs.open(this.directory.resolve("base.json"), "{\"routes\": [{\"path\": \"/a\"}, {\"path\": \"/b\"}, {\"path\": \"/c\", \"auth\": true}],"
+                                                                            + " \"hosts\": [\"a\", \"b\", \"c\"]}", ConfigType.JSON);
+        Config local = TestConfigs.open(this.directory.resolve("local.json"), "{\"routes\": [{\"path\": \"/x\"}], \"hosts\": [\"x\"]}", ConfigType.JSON);
+        LayeredConfig config = LayeredConfig.of(base, local);
+
+        assertEquals(List.of("hosts", "routes", "routes[0].path"), config.keysUnder(""));
+        assertEquals(1, config.getArray("routes").size());
+        assertEquals("/x", config.getString("routes[0].path"));
+        assertNull(config.get("routes[2].auth"));
+        assertEquals(List.of("x"), config.getStringList("hosts"));
+        assertNull(config.get("hosts[1]"));
+    }
+
+    @Test
+    void followsItsLayers() throws IOException {
+        Path path = this.directory.resolve("local.json");
+        Files.writeString(path, "{\"hosts\": [\"x\"]}");
+        Config base = TestConfigs.open(this.directory.resolve("base.json"), "{\"hosts\": [\"a\", \"b\"], \"port\": 80}", ConfigType.JSON);
+        Config local = TestConfigs.open(path, ConfigType.JSON);
+        LayeredConfig config = LayeredConfig.of(base, local);
+
+        Files.writeString(path, "{\"port\": 81}");
+        local.reload();
+
+        assertEquals(List.of("a", "b"), config.getStringList("hosts"));
+        assertEquals(81, config.getInt("port", 0));
+    }
+
+    @Test
+    void concurrentLayerReloadsPublishTheLatestMerge() throws Exception {
+        Config base = TestConfigs.open(this.directory.resolve("base.json"), "{\"a\": 0}", ConfigType.JSON);
+        Config local = TestConfigs.open(this.directory.resolve("local.json"), "{\"b\": 0}", ConfigType.JSON);
+        LayeredConfig config = LayeredConfig.of(base, local);
+        List<Thread> threads = new ArrayList<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        long deadline = System.currentTimeMillis() + 300;
+        for (int i = 0; i < 4; i++) {
+            Config layer = i % 2 == 0 ? base : local;
+            String key = i % 2 == 0 ? "a" : "b";
+            String temp = "writer" + i + ".tmp";
+            threads.add(new Thread(() -> {
+                try {
+                    for (int version = 1; System.currentTimeMillis() < deadline; version++) {
+                        Path written = this.directory.resolve(temp);
+                        Files.writeString(written, "{\"" + key + "\": " + version + "}");
+                        Files.move(written, layer.path(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                        layer.reload();
+                    }
+                }
+                catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        assertTrue(failures.isEmpty(), () -> "concurrent failures : " + failures);
+        assertEquals(base.getInt("a", -1), config.getInt("a", -2));
+        assertEquals(local.getInt("b", -1), config.getInt("b", -2));
+    }
+
+    @Test
+    void discardedLayeredAndSubConfigsAreReleased() throws Exception {
+        Config base = TestConfigs.open(this.directory.resolve("base.json"), "{\"server\": {\"port\": 80}}", ConfigType.JSON);
+        Config local = TestConfigs.open(this.directory.resolve("local.json"), "{\"name\": \"a\"}", ConfigType.JSON);
+        WeakReference<Config> layered = new WeakReference<>(LayeredConfig.of(base, local));
+        WeakReference<Config> subtree = new WeakReference<>(base.subtree("server"));
+
+        for (int i = 0; i < 50 && (layered.get() != null || subtree.get() != null); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(layered.get());
+        assertNull(subtree.get());
+        base.reload();
+        local.reload();
+        assertEquals(80, base.subtree("server").getInt("port", 0));
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LazyValuesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void matchesEagerLoading() throws IOException {
+        Path path = TestConfigs.write(this.directory, "{\"server\": {\"host\": \"h\", \"ports\": [80, 443]}, \"name\": \"app\", \"tags\": [\"a\", \"b\"]}");
+        Config eager = TestConfigs.open(path, ConfigType.JSON);
+        Config lazy = Config.openLazy(path);
+
+        assertEquals("app", lazy.getString("name"));
+        assertEquals("h", lazy.getString("server.host"));
+        assertEquals(443, lazy.getInt("server.ports[1]", 0));
+        assertEquals("b", lazy.getString("tags[1]"));
+        assertNull(lazy.get("server.missing"));
+        assertNull(lazy.get("missing.key"));
+        assertEquals(eager.keysUnder(""), lazy.keysUnder(""));
+    }
+
+    @Test
+    void segmentNamesMayContainSeparators() throws IOException {
+        Config lazy = Config.openLazy(TestConfigs.write(this.directory, "{\"a\": {\"x\": 1}, \"a.b\": {\"c\": 2}, \"list[0]\": [3], \"d.e\": 4}"));
+
+        assertEquals(2, lazy.getInt("a.b.c", 0));
+        assertEquals(1, lazy.getInt("a.x", 0));
+        assertEquals(3, lazy.getInt("list[0][0]", 0));
+        assertEquals(4, lazy.getInt("d.e", 0));
+    }
+
+    @Test
+    void dottedSegmentResolvesOnItsOwn() throws IOException {
+        Config lazy = Config.openLazy(TestConfigs.write(this.directory, "{\"a.b\": {\"c\": 1}}"));
+
+        assertEquals(1, lazy.getInt("a.b.c", 0));
+        assertNull(lazy.get("a.b.d"));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.dwilliam.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class TestConfigs {
+
+    private TestConfigs() {
+    }
+
+    static Path write(Path directory, String json) throws IOException {
+        Path path = Files.createTempFile(directory, "config", ".json");
+        Files.writeString(path, json);
+        return path;
+    }
+
+    static Config load(Path directory, String json) throws IOException {
+        return load(directory, json, null);
+    }
+
+    static Config load(Path directory, String json, ConfigSchema schema) throws IOException {
+        return new Config(write(directory, json), ConfigType.JSON, false, false, false, schema);
+    }
+
+    static Config open(Path path, String content, ConfigType type) throws IOException {
+        Files.writeString(path, content);
+        return open(path, type);
+    }
+
+    static Config open(Path path, ConfigType type) {
+        return new Config(path, type, false, false, false, null);
+    }
+
+    static ConfigSnapshot snapshot(Path directory, String json) throws IOException {
+        return snapshot(directory, json, null);
+    }
+
+    static ConfigSnapshot snapshot(Path directory, String json, ConfigSchema schema) throws IOException {
+        return ConfigLoader.load(write(directory, json), ConfigType.JSON, false, schema);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.dwilliam.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TypedValuesTest {
+
+    @Test
+    void collidingKeysResolveToTheirOwnSlots() {
+        TypedValues.Builder builder = new TypedValues.Builder();
+        builder.put("Aa", 1);
+        builder.put("BB", 2);
+        builder.put("x.Aa", 3);
+        builder.put("x.BB", 4);
+        builder.put("Aa.x", 5);
+        builder.put("BB.x", 6);
+        TypedValues values = builder.build();
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        for (String tree : new String[] {"Aa", "BB", "x.Aa", "x.BB", "Aa.x", "BB.x"}) {
+            int slot = values.slot(new String(tree));
+            assertEquals(tree, values.key(slot));
+            assertEquals(slot, values.slot(tree));
+        }
+        assertEquals(6, values.intValue(values.slot("BB.x")));
+        assertEquals(-1, values.slot("x.Ab"));
+        assertEquals(-1, values.slot("xAa"));
+        assertEquals(-1, values.slot("x.Aa.x"));
+    }
+
+}